@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Compares startup of the plain image (JIT, cold class loading) with the AOT + CDS image.
+# For each image it reports the JVM-reported startup time and the wall time from `docker run` to the first
+# successful API response. Usage: scripts/startup-benchmark.sh [runs]   (default 5)
+set -euo pipefail
+
+RUNS=${1:-5}
+NETWORK=ecom-startup-bench
+DB=ecom-startup-bench-db
+PORT=18080
+
+cleanup() {
+    docker rm -f "$DB" ecom-startup-bench-app >/dev/null 2>&1 || true
+    docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+cd "$(dirname "$0")/.."
+docker build -q --target runtime -t ecom-monolith:jit . >/dev/null
+docker build -q --target aot-cds -t ecom-monolith:aot-cds . >/dev/null
+
+docker network create "$NETWORK" >/dev/null
+docker run -d --name "$DB" --network "$NETWORK" \
+    -e POSTGRES_USER=ecom_user -e POSTGRES_PASSWORD=ecom_pass123 -e POSTGRES_DB=ecom_db postgres:15 >/dev/null
+until docker exec "$DB" pg_isready -U ecom_user -d ecom_db >/dev/null 2>&1; do sleep 0.5; done
+
+now_ms() {
+    date +%s%3N
+}
+
+measure() {
+    local image=$1
+    local start ready started
+    start=$(now_ms)
+    docker run -d --name ecom-startup-bench-app --network "$NETWORK" -p "$PORT:8080" \
+        -e DB_URL="jdbc:postgresql://$DB:5432/ecom_db" -e DB_USERNAME=ecom_user -e DB_PASSWORD=ecom_pass123 \
+        -e SPRING_JPA_HIBERNATE_DDL_AUTO=update "$image" >/dev/null
+    until curl -sf "http://localhost:$PORT/api/products" >/dev/null; do sleep 0.05; done
+    ready=$(now_ms)
+    started=$(docker logs ecom-startup-bench-app 2>&1 | sed -n 's/.*Started MonolithApplication in \([0-9.]*\) seconds.*/\1/p')
+    docker rm -f ecom-startup-bench-app >/dev/null
+    echo "$started $(( ready - start ))"
+}
+
+printf '%-24s %-4s %-18s %s\n' image run "jvm startup (s)" "first request (ms)"
+for image in ecom-monolith:jit ecom-monolith:aot-cds; do
+    for run in $(seq 1 "$RUNS"); do
+        read -r started first <<<"$(measure "$image")"
+        printf '%-24s %-4s %-18s %s\n' "$image" "$run" "$started" "$first"
+    done
+done
@@ -0,0 +1,16 @@
+package com.ecom.monolith.Dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CartBatchRequest {
+
+    @NotEmpty(message = "At least one cart line is required")
+    @Size(max = 100, message = "Up to 100 cart lines per batch")
+    private List<@Valid CartRequest> items;
+}
@@ -0,0 +1,24 @@
+package com.ecom.monolith.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartLineResult {
+
+    private String productId;
+
+    private int quantity;
+
+    private Status status;
+
+    public enum Status {
+        ADDED,
+        UPDATED,
+        OUT_OF_STOCK,
+        NOT_FOUND
+    }
+}
@@ -0,0 +1,14 @@
+package com.ecom.monolith.Dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ProductLookupRequest {
+
+    @NotEmpty(message = "At least one product id is required")
+    private List<@NotNull Long> ids;
+}
@@ -0,0 +1,18 @@
+package com.ecom.monolith.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductLookupResponse {
+
+    // In request order, duplicates removed
+    private List<ProductDto> products;
+
+    private List<Long> missing;
+}
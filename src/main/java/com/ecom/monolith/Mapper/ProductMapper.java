@@ -3,10 +3,12 @@ package com.ecom.monolith.Mapper;
 import com.ecom.monolith.Dto.ProductDto;
 import com.ecom.monolith.model.Product;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface ProductMapper {
 
+    @Mapping(target = "stockShards", ignore = true)
     Product toEntity(ProductDto productDto);
 
     ProductDto toDto(Product product);
@@ -1,12 +1,15 @@
 package com.ecom.monolith;
 
+import com.ecom.monolith.config.NativeRuntimeHints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.core.env.Environment;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class MonolithApplication {
 
 	private static final Logger logger = LoggerFactory.getLogger(MonolithApplication.class);
@@ -0,0 +1,58 @@
+package com.ecom.monolith.catalog;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Counter that moves whenever a product change commits. Bumping only after commit means a reader that saw the
+ * new version also sees the new rows; a rolled back change leaves the version alone.
+ * <p>
+ * Every order moves stock, so stock-only changes are coalesced: the first one after a quiet period moves the
+ * version at once, later ones at most once per {@code stockStaleness}. Any other change moves it immediately.
+ */
+public class CatalogVersion {
+
+    private final long stockStalenessNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicBoolean stockPending = new AtomicBoolean();
+    private volatile long bumpedAt;
+
+    public CatalogVersion(Duration stockStaleness) {
+        this(stockStaleness, System::nanoTime);
+    }
+
+    CatalogVersion(Duration stockStaleness, LongSupplier nanoClock) {
+        this.stockStalenessNanos = stockStaleness.toNanos();
+        this.nanoClock = nanoClock;
+        this.bumpedAt = nanoClock.getAsLong() - stockStalenessNanos;
+    }
+
+    public long current() {
+        if (stockPending.get() && nanoClock.getAsLong() - bumpedAt >= stockStalenessNanos
+                && stockPending.compareAndSet(true, false)) {
+            bump();
+        }
+        return version.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.stockOnly()) {
+            stockPending.set(true);
+            return;
+        }
+        // Anything rendered after this bump includes the pending stock changes too
+        stockPending.set(false);
+        bump();
+    }
+
+    private void bump() {
+        bumpedAt = nanoClock.getAsLong();
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,150 @@
+package com.ecom.monolith.catalog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves catalog responses from gzip bytes compressed once per {@link CatalogVersion} instead of once per request.
+ * Entries are kept per path and {@code Accept} header, so JSON, CBOR and Smile clients each get their own
+ * representation. Requests with a query string, without gzip in {@code Accept-Encoding}, and responses that are not
+ * 200 or smaller than {@code minSize} go through untouched and are left to the container's compression.
+ */
+public class PrecompressedCatalogFilter extends OncePerRequestFilter {
+
+    // Set from the cached entry's own fields or rewritten by write()
+    private static final Set<String> SKIPPED_HEADERS = Set.of("content-type", "content-length", "content-encoding");
+
+    private final CatalogVersion catalogVersion;
+    private final int minSize;
+    private final int level;
+    private final int maxVariants;
+    private final long ttlNanos;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public PrecompressedCatalogFilter(CatalogVersion catalogVersion, int minSize, int level, int maxVariants,
+                                      Duration ttl, MeterRegistry meterRegistry) {
+        this.catalogVersion = catalogVersion;
+        this.minSize = minSize;
+        this.level = level;
+        this.maxVariants = maxVariants;
+        this.ttlNanos = ttl.toNanos();
+        this.hits = meterRegistry.counter("app.catalog.precompressed", "result", "hit");
+        this.misses = meterRegistry.counter("app.catalog.precompressed", "result", "miss");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || request.getQueryString() != null
+                || !acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String variant = request.getRequestURI() + '|' + request.getHeader(HttpHeaders.ACCEPT);
+        // Read before the handler runs: a change committing meanwhile stores this body under the version it replaces
+        long version = catalogVersion.current();
+        long now = System.nanoTime();
+
+        Entry entry = entries.get(variant);
+        if (entry != null && entry.version() == version && now - entry.expiresAt() < 0) {
+            hits.increment();
+            ServerHttpObservationFilter.findObservationContext(request)
+                    .ifPresent(context -> context.setPathPattern(request.getRequestURI()));
+            entry.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+            response.setContentType(entry.contentType());
+            write(response, entry.gzip());
+            return;
+        }
+
+        misses.increment();
+        // Headers already set by outer filters are set again on a hit; only the handler's own are replayed
+        Set<String> outerHeaders = new HashSet<>(response.getHeaderNames());
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        byte[] body = wrapper.getContentAsByteArray();
+        if (wrapper.getStatus() != HttpStatus.OK.value() || body.length < minSize
+                || wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] gzip = gzip(body);
+        if (entries.size() < maxVariants || entries.containsKey(variant)) {
+            entries.put(variant, new Entry(version, wrapper.getContentType(), handlerHeaders(wrapper, outerHeaders),
+                    gzip, now + ttlNanos));
+        }
+        write(response, gzip);
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, List<String>> handlerHeaders(HttpServletResponse response, Set<String> outerHeaders) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!outerHeaders.contains(name) && !SKIPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.put(name, List.copyOf(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private void write(HttpServletResponse response, byte[] gzip) throws IOException {
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        // The cache key includes Accept, so shared caches must key on it too
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING + ", " + HttpHeaders.ACCEPT);
+        response.setContentLength(gzip.length);
+        response.getOutputStream().write(gzip);
+    }
+
+    private byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            out.write(body);
+        }
+        return bytes.toByteArray();
+    }
+
+    private record Entry(long version, String contentType, Map<String, List<String>> headers, byte[] gzip,
+                         long expiresAt) {
+    }
+}
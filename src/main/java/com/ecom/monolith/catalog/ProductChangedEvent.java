@@ -0,0 +1,33 @@
+package com.ecom.monolith.catalog;
+
+import com.ecom.monolith.model.Product;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.math.BigDecimal;
+
+/**
+ * Published by the product and stock services whenever a field exposed in {@code ProductDto} changes.
+ * Carries the new price and stock so listeners can forward the change without reading the product again.
+ * A sharded decrement leaves {@code stockQuantity} null: the new total is only known by summing the shards,
+ * which listeners do once per batch of changes instead of once per order.
+ * {@code stockOnly} marks changes made by order placement and stock sharding, which only move the stock.
+ */
+public record ProductChangedEvent(Long productId, BigDecimal price, Integer stockQuantity,
+                                  @JsonIgnore boolean stockOnly) {
+
+    public ProductChangedEvent(Long productId, BigDecimal price, Integer stockQuantity) {
+        this(productId, price, stockQuantity, false);
+    }
+
+    public static ProductChangedEvent of(Product product) {
+        return new ProductChangedEvent(product.getId(), product.getPrice(), product.getStockQuantity());
+    }
+
+    public static ProductChangedEvent stockOf(Product product) {
+        return new ProductChangedEvent(product.getId(), product.getPrice(), product.getStockQuantity(), true);
+    }
+
+    public ProductChangedEvent withStockQuantity(Integer stockQuantity) {
+        return new ProductChangedEvent(productId, price, stockQuantity, stockOnly);
+    }
+}
@@ -0,0 +1,209 @@
+package com.ecom.monolith.catalog;
+
+import com.ecom.monolith.exception.TooManyRequests;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Fans committed product changes out to Server-Sent Events subscribers. Changes are coalesced per product and
+ * flushed once per tick, so a burst of orders on one product becomes a single delta, and each subscriber only
+ * receives the ids it asked for.
+ * <p>
+ * A waiting subscription is an async servlet request and holds no thread. Sends run on {@code sendExecutor}
+ * (virtual threads in production) with at most one in flight per subscriber; deltas arriving meanwhile are merged
+ * into that subscriber's next send, so a slow client only delays itself.
+ * <p>
+ * Sharded decrements arrive without a stock total; {@code stockLookup} fills those in with one query per tick.
+ */
+public class ProductStreamHub implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductStreamHub.class);
+
+    private final Executor sendExecutor;
+    private final Function<Collection<Long>, Map<Long, Integer>> stockLookup;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final Map<Long, ProductChangedEvent> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> subscribersByProduct = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public ProductStreamHub(Executor sendExecutor, Function<Collection<Long>, Map<Long, Integer>> stockLookup,
+                            int maxSubscribers, Duration timeout) {
+        this.sendExecutor = sendExecutor;
+        this.stockLookup = stockLookup;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public SseEmitter subscribe(Collection<Long> productIds) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new TooManyRequests("Too many open product streams, try again later", 5);
+        }
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMillis), Set.copyOf(productIds));
+        subscribers.add(subscriber);
+        for (Long productId : subscriber.productIds) {
+            subscribersByProduct.computeIfAbsent(productId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(ex -> remove(subscriber));
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (subscribersByProduct.containsKey(event.productId())) {
+            pending.put(event.productId(), event);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.product-stream.tick:500ms}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<ProductChangedEvent> events = new ArrayList<>(pending.size());
+        for (Long productId : pending.keySet()) {
+            ProductChangedEvent event = pending.remove(productId);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+        events = withStockTotals(events);
+        Map<Subscriber, List<ProductChangedEvent>> batches = new HashMap<>();
+        for (ProductChangedEvent event : events) {
+            for (Subscriber subscriber : subscribersByProduct.getOrDefault(event.productId(), Set.of())) {
+                batches.computeIfAbsent(subscriber, s -> new ArrayList<>()).add(event);
+            }
+        }
+        batches.forEach(Subscriber::enqueue);
+    }
+
+    private List<ProductChangedEvent> withStockTotals(List<ProductChangedEvent> events) {
+        List<Long> missing = events.stream()
+                .filter(event -> event.stockQuantity() == null)
+                .map(ProductChangedEvent::productId)
+                .toList();
+        if (missing.isEmpty()) {
+            return events;
+        }
+        Map<Long, Integer> totals;
+        try {
+            totals = stockLookup.apply(missing);
+        } catch (RuntimeException ex) {
+            // Keep the changes for the next tick; a newer change for the same product takes precedence
+            logger.warn("Could not read stock for {} streamed products, retrying next tick: {}", missing.size(), ex.toString());
+            events.forEach(event -> pending.putIfAbsent(event.productId(), event));
+            return List.of();
+        }
+        return events.stream()
+                .map(event -> event.stockQuantity() != null ? event
+                        : event.withStockQuantity(totals.getOrDefault(event.productId(), 0)))
+                .toList();
+    }
+
+    // Keeps idle connections open through proxies and finds clients that went away without closing
+    @Scheduled(fixedDelayString = "${app.product-stream.heartbeat:25s}")
+    public void heartbeat() {
+        subscribers.forEach(Subscriber::heartbeat);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        if (sendExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        for (Long productId : subscriber.productIds) {
+            subscribersByProduct.computeIfPresent(productId, (id, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Set<Long> productIds;
+        private final Map<Long, ProductChangedEvent> outbox = new ConcurrentHashMap<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean heartbeatDue;
+
+        private Subscriber(SseEmitter emitter, Set<Long> productIds) {
+            this.emitter = emitter;
+            this.productIds = productIds;
+        }
+
+        private void enqueue(List<ProductChangedEvent> events) {
+            for (ProductChangedEvent event : events) {
+                outbox.put(event.productId(), event);
+            }
+            schedule();
+        }
+
+        private void heartbeat() {
+            heartbeatDue = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (sending.compareAndSet(false, true)) {
+                sendExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    List<ProductChangedEvent> events = new ArrayList<>(outbox.size());
+                    for (Long productId : outbox.keySet()) {
+                        ProductChangedEvent event = outbox.remove(productId);
+                        if (event != null) {
+                            events.add(event);
+                        }
+                    }
+                    if (!events.isEmpty()) {
+                        emitter.send(SseEmitter.event().name("products").data(events));
+                    } else if (heartbeatDue) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                    heartbeatDue = false;
+                    sending.set(false);
+                    // Something queued after the outbox was drained; send it now unless another drain already took over
+                } while ((!outbox.isEmpty() || heartbeatDue) && sending.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException ex) {
+                logger.debug("Dropping product stream subscriber: {}", ex.toString());
+                remove(this);
+                emitter.completeWithError(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecom.monolith.config;
+
+import com.ecom.monolith.maintenance.CartExpirySweeper;
+import com.ecom.monolith.repositories.CartItemRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.cart.expiry", name = "enabled", havingValue = "true")
+public class CartExpiryConfig {
+
+    @Bean
+    public CartExpirySweeper cartExpirySweeper(CartItemRepository cartItemRepository,
+                                               PlatformTransactionManager transactionManager,
+                                               ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${app.cart.expiry.max-age:30d}") Duration maxAge,
+                                               @Value("${app.cart.expiry.batch-size:500}") int batchSize,
+                                               @Value("${app.cart.expiry.pause:200ms}") Duration pause,
+                                               @Value("${app.cart.expiry.max-batches:2000}") int maxBatches) {
+        // Without a replica there is no lag to watch
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+        return new CartExpirySweeper(cartItemRepository, new TransactionTemplate(transactionManager),
+                () -> monitor != null && !monitor.isReplicaAvailable(), Clock.systemDefaultZone(),
+                maxAge, batchSize, pause, maxBatches, meterRegistry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.ecom.monolith.config;
+
+import com.ecom.monolith.catalog.CatalogVersion;
+import com.ecom.monolith.catalog.PrecompressedCatalogFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.catalog-compression", name = "enabled", havingValue = "true")
+public class CompressionConfig {
+
+    @Bean
+    public CatalogVersion catalogVersion(@Value("${app.catalog-compression.stock-staleness:5s}") Duration stockStaleness) {
+        return new CatalogVersion(stockStaleness);
+    }
+
+    @Bean
+    public FilterRegistrationBean<PrecompressedCatalogFilter> precompressedCatalogFilter(
+            CatalogVersion catalogVersion,
+            @Value("${app.catalog-compression.paths:/api/products}") List<String> paths,
+            @Value("${app.catalog-compression.min-size:2KB}") DataSize minSize,
+            @Value("${app.catalog-compression.level:9}") int level,
+            @Value("${app.catalog-compression.max-variants:8}") int maxVariants,
+            @Value("${app.catalog-compression.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<PrecompressedCatalogFilter> registration = new FilterRegistrationBean<>(
+                new PrecompressedCatalogFilter(catalogVersion, (int) minSize.toBytes(), level, maxVariants, ttl, meterRegistry));
+        registration.setUrlPatterns(paths);
+        // Inside the concurrency limit, ahead of the per-request SQL filters a cache hit never reaches
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
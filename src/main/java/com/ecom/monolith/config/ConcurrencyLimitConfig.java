@@ -0,0 +1,59 @@
+package com.ecom.monolith.config;
+
+import com.ecom.monolith.limit.ConcurrencyLimitFilter;
+import com.ecom.monolith.limit.ConcurrencyLimiter;
+import com.ecom.monolith.limit.GradientLimit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.concurrency-limit", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public ConcurrencyLimiter concurrencyLimiter(@Value("${app.concurrency-limit.initial-limit:20}") int initialLimit,
+                                                 @Value("${app.concurrency-limit.min-limit:4}") int minLimit,
+                                                 @Value("${app.concurrency-limit.max-limit:200}") int maxLimit,
+                                                 @Value("${app.concurrency-limit.smoothing:0.2}") double smoothing,
+                                                 @Value("${app.concurrency-limit.window:600}") int window,
+                                                 @Value("${app.concurrency-limit.priority-share:0.2}") double priorityShare,
+                                                 MeterRegistry meterRegistry) {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(
+                new GradientLimit(initialLimit, minLimit, maxLimit, smoothing, window), priorityShare);
+        Gauge.builder("http.server.concurrency.limit", limiter, ConcurrencyLimiter::getLimit)
+                .description("Current adaptive limit on in-flight API requests")
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.in-flight", limiter, ConcurrencyLimiter::getInFlight)
+                .register(meterRegistry);
+        FunctionCounter.builder("http.server.concurrency.rejected", limiter, ConcurrencyLimiter::getRejected)
+                .tag("priority", "false")
+                .register(meterRegistry);
+        FunctionCounter.builder("http.server.concurrency.rejected", limiter, ConcurrencyLimiter::getRejectedPriority)
+                .tag("priority", "true")
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ConcurrencyLimiter concurrencyLimiter,
+            @Value("${app.concurrency-limit.priority-paths:/api/orders}") List<String> priorityPaths,
+            ObjectMapper objectMapper) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(concurrencyLimiter, priorityPaths, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        // Shed before any other filter spends work on the request
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ecom.monolith.config;
+
+import com.ecom.monolith.service.GroupCommitOrderService;
+import com.ecom.monolith.service.OrderService;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.orders.group-commit", name = "enabled", havingValue = "true")
+public class GroupCommitConfig {
+
+    @Bean
+    @Primary
+    public GroupCommitOrderService groupCommitOrderService(@Qualifier("orderServiceImpl") OrderService orderService,
+                                                           PlatformTransactionManager transactionManager,
+                                                           EntityManager entityManager,
+                                                           @Value("${app.orders.group-commit.queue-capacity:1024}") int queueCapacity,
+                                                           @Value("${app.orders.group-commit.max-batch-size:64}") int maxBatchSize,
+                                                           @Value("${app.orders.group-commit.max-wait:5ms}") Duration maxWait,
+                                                           @Value("${app.orders.group-commit.queue-timeout:1s}") Duration queueTimeout) {
+        return new GroupCommitOrderService(orderService, transactionManager, entityManager, queueCapacity, maxBatchSize,
+                maxWait, queueTimeout);
+    }
+
+    /**
+     * By default a failure inside any {@code @Transactional} method marks the whole transaction rollback-only, which
+     * would let one sold-out order sink its batch even after rolling back to its savepoint. No caller in this
+     * application swallows such a failure, so elsewhere the exception still reaches the outermost method and rolls
+     * back as before.
+     */
+    @Bean
+    public TransactionManagerCustomizer<AbstractPlatformTransactionManager> groupCommitRollbackPolicy() {
+        return transactionManager -> transactionManager.setGlobalRollbackOnParticipationFailure(false);
+    }
+}
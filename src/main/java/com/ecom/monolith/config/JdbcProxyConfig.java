@@ -0,0 +1,71 @@
+package com.ecom.monolith.config;
+
+import com.ecom.monolith.jdbc.DataSourceProxyPostProcessor;
+import com.ecom.monolith.jdbc.NPlusOneDetector;
+import com.ecom.monolith.jdbc.NPlusOneFilter;
+import com.ecom.monolith.jdbc.QueryCounter;
+import com.ecom.monolith.jdbc.SqlStats;
+import com.ecom.monolith.jdbc.SqlStatsEndpoint;
+import com.ecom.monolith.jdbc.SqlTimingInterceptor;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class JdbcProxyConfig {
+
+    @Bean
+    public static DataSourceProxyPostProcessor dataSourceProxyPostProcessor(ObjectProvider<QueryExecutionListener> listeners) {
+        return new DataSourceProxyPostProcessor(listeners);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.jdbc.query-count", name = "enabled", havingValue = "true")
+    public QueryCounter queryCounter() {
+        return new QueryCounter();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.jdbc.n-plus-one", name = "enabled", havingValue = "true")
+    public NPlusOneDetector nPlusOneDetector(@Value("${app.jdbc.n-plus-one.threshold:5}") int threshold) {
+        return new NPlusOneDetector(threshold);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.jdbc.n-plus-one", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<NPlusOneFilter> nPlusOneFilter(NPlusOneDetector nPlusOneDetector) {
+        return new FilterRegistrationBean<>(new NPlusOneFilter(nPlusOneDetector));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.jdbc.sql-stats", name = "enabled", havingValue = "true")
+    public SqlStats sqlStats(@Value("${app.jdbc.sql-stats.slow-threshold:200ms}") Duration slowThreshold,
+                             @Value("${app.jdbc.sql-stats.max-shapes:500}") int maxShapes) {
+        return new SqlStats(slowThreshold, maxShapes);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.jdbc.sql-stats", name = "enabled", havingValue = "true")
+    public SqlStatsEndpoint sqlStatsEndpoint(SqlStats sqlStats, @Value("${app.jdbc.sql-stats.top:20}") int top) {
+        return new SqlStatsEndpoint(sqlStats, top);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.jdbc.sql-stats", name = "enabled", havingValue = "true")
+    public WebMvcConfigurer sqlTimingWebMvcConfigurer(SqlStats sqlStats) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new SqlTimingInterceptor(sqlStats));
+            }
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.ecom.monolith.config;
+
+import com.ecom.monolith.Dto.AddressDto;
+import com.ecom.monolith.Dto.CartBatchRequest;
+import com.ecom.monolith.Dto.CartLineResult;
+import com.ecom.monolith.Dto.CartRequest;
+import com.ecom.monolith.Dto.CartResponse;
+import com.ecom.monolith.Dto.OrderItemResponse;
+import com.ecom.monolith.Dto.OrderResponse;
+import com.ecom.monolith.Dto.ProductDto;
+import com.ecom.monolith.Dto.ProductLookupRequest;
+import com.ecom.monolith.Dto.ProductLookupResponse;
+import com.ecom.monolith.Dto.UsersDto;
+import com.ecom.monolith.Mapper.CartMapper;
+import com.ecom.monolith.Mapper.OrderItemResponseMapper;
+import com.ecom.monolith.Mapper.OrderMapper;
+import com.ecom.monolith.Mapper.ProductMapper;
+import com.ecom.monolith.Mapper.UserMapper;
+import com.ecom.monolith.catalog.ProductChangedEvent;
+import com.ecom.monolith.exception.ErrorResponse;
+import com.ecom.monolith.logging.SamplingTurboFilter;
+import com.ecom.monolith.model.Address;
+import com.ecom.monolith.model.ArchivedOrder;
+import com.ecom.monolith.model.CartItem;
+import com.ecom.monolith.model.Order;
+import com.ecom.monolith.model.OrderItem;
+import com.ecom.monolith.model.OrderStatus;
+import com.ecom.monolith.model.Product;
+import com.ecom.monolith.model.ProductStockShard;
+import com.ecom.monolith.model.UserRole;
+import com.ecom.monolith.model.Users;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * Reflection and resource hints for the native image that Spring AOT cannot infer from the bean graph:
+ * JSON types written outside controller signatures, Lombok accessors used by Hibernate,
+ * the MapStruct implementations, and classes that Logback and JCache load by name.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> JSON_TYPES = List.of(ProductDto.class, UsersDto.class, AddressDto.class, CartRequest.class,
+            CartBatchRequest.class, CartResponse.class, CartLineResult.class, OrderResponse.class, OrderItemResponse.class,
+            ProductLookupRequest.class, ProductLookupResponse.class, ProductChangedEvent.class, ErrorResponse.class);
+
+    static final List<Class<?>> ENTITIES = List.of(Product.class, ProductStockShard.class, Users.class, Address.class,
+            CartItem.class, Order.class, OrderItem.class, ArchivedOrder.class, OrderStatus.class, UserRole.class);
+
+    static final List<Class<?>> MAPPERS = List.of(ProductMapper.class, UserMapper.class, CartMapper.class, OrderMapper.class,
+            OrderItemResponseMapper.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources()
+                .registerPattern("ehcache.xml")
+                .registerPattern("logback-spring.xml");
+
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), JSON_TYPES.toArray(Class<?>[]::new));
+
+        for (Class<?> entity : ENTITIES) {
+            hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+        for (Class<?> mapper : MAPPERS) {
+            hints.reflection().registerType(TypeReference.of(mapper.getName() + "Impl"),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        hints.reflection().registerType(SamplingTurboFilter.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(TypeReference.of("org.ehcache.jsr107.EhcacheCachingProvider"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+}
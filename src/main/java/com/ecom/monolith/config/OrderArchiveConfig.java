@@ -0,0 +1,34 @@
+package com.ecom.monolith.config;
+
+import com.ecom.monolith.maintenance.OrderArchiver;
+import com.ecom.monolith.maintenance.OrderPartitionManager;
+import com.ecom.monolith.service.OrderArchiveService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.orders.archive", name = "enabled", havingValue = "true")
+public class OrderArchiveConfig {
+
+    @Bean
+    public OrderArchiver orderArchiver(OrderArchiveService orderArchiveService,
+                                       ObjectProvider<OrderPartitionManager> partitionManager,
+                                       ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${app.orders.archive.retention-months:12}") int retentionMonths,
+                                       @Value("${app.orders.archive.batch-size:200}") int batchSize,
+                                       @Value("${app.orders.archive.pause:500ms}") Duration pause,
+                                       @Value("${app.orders.archive.max-batches:5000}") int maxBatches) {
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+        return new OrderArchiver(orderArchiveService, partitionManager.getIfAvailable(),
+                () -> monitor != null && !monitor.isReplicaAvailable(), Clock.systemDefaultZone(),
+                retentionMonths, batchSize, pause, maxBatches, meterRegistry);
+    }
+}
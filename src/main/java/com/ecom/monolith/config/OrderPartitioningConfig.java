@@ -0,0 +1,24 @@
+package com.ecom.monolith.config;
+
+import com.ecom.monolith.maintenance.OrderPartitionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+
+/**
+ * Only for PostgreSQL databases migrated with {@code db/postgres/orders-partitioning.sql}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.orders.partitioning", name = "enabled", havingValue = "true")
+public class OrderPartitioningConfig {
+
+    @Bean
+    public OrderPartitionManager orderPartitionManager(JdbcTemplate jdbcTemplate,
+                                                       @Value("${app.orders.partitioning.months-ahead:3}") int monthsAhead) {
+        return new OrderPartitionManager(jdbcTemplate, Clock.systemDefaultZone(), monthsAhead);
+    }
+}
@@ -0,0 +1,31 @@
+package com.ecom.monolith.config;
+
+import com.ecom.monolith.catalog.ProductStreamHub;
+import com.ecom.monolith.service.StockService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.product-stream", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductStreamConfig {
+
+    @Bean
+    public ProductStreamHub productStreamHub(@Value("${app.product-stream.max-subscribers:20000}") int maxSubscribers,
+                                             @Value("${app.product-stream.timeout:30m}") Duration timeout,
+                                             StockService stockService,
+                                             MeterRegistry meterRegistry) {
+        ProductStreamHub hub = new ProductStreamHub(Executors.newVirtualThreadPerTaskExecutor(), stockService::shardTotals,
+                maxSubscribers, timeout);
+        Gauge.builder("app.product-stream.subscribers", hub, ProductStreamHub::getSubscriberCount)
+                .description("Open Server-Sent Events product streams")
+                .register(meterRegistry);
+        return hub;
+    }
+}
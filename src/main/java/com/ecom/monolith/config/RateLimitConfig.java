@@ -0,0 +1,38 @@
+package com.ecom.monolith.config;
+
+import com.ecom.monolith.ratelimit.RateLimitInterceptor;
+import com.ecom.monolith.ratelimit.RateLimitProperties;
+import com.ecom.monolith.ratelimit.TokenBucketRateLimiter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "enabled", havingValue = "true")
+public class RateLimitConfig {
+
+    @Bean
+    @ConfigurationProperties("app.rate-limit")
+    public RateLimitProperties rateLimitProperties() {
+        return new RateLimitProperties();
+    }
+
+    @Bean
+    public TokenBucketRateLimiter tokenBucketRateLimiter(RateLimitProperties rateLimitProperties) {
+        return new TokenBucketRateLimiter(rateLimitProperties.getMaxKeys());
+    }
+
+    @Bean
+    public WebMvcConfigurer rateLimitWebMvcConfigurer(TokenBucketRateLimiter tokenBucketRateLimiter,
+                                                      RateLimitProperties rateLimitProperties) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new RateLimitInterceptor(tokenBucketRateLimiter, rateLimitProperties.getPolicies()));
+            }
+        };
+    }
+}
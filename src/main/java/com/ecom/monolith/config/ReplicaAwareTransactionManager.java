@@ -0,0 +1,33 @@
+package com.ecom.monolith.config;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps rows read from the replica out of the second-level cache. A lagging replica can return an old row, and once
+ * cached, write paths on the primary would keep using it (a cart line priced from a stale product, for example).
+ * Read-only transactions that will be routed to the replica still read the cache but never put into it.
+ */
+public class ReplicaAwareTransactionManager extends JpaTransactionManager {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaAwareTransactionManager(EntityManagerFactory entityManagerFactory, ReplicaLagMonitor replicaLagMonitor) {
+        super(entityManagerFactory);
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        if (definition.isReadOnly() && replicaLagMonitor.isReplicaAvailable()) {
+            EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+            // A property rather than Session#setCacheMode: Hibernate derives each find's cache mode from these
+            holder.getEntityManager().setProperty("jakarta.persistence.cache.storeMode", CacheStoreMode.BYPASS);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ecom.monolith.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private volatile boolean replicaAvailable;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:5s}")
+    public void checkLag() {
+        boolean available;
+        try {
+            Double lagSeconds = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+            double lag = lagSeconds != null ? lagSeconds : 0;
+            available = lag * 1000 <= maxLag.toMillis();
+            if (!available) {
+                logger.warn("Replica lag {}s exceeds max {}s, routing reads to primary", lag, maxLag.toSeconds());
+            }
+        } catch (Exception ex) {
+            logger.warn("Replica lag check failed, routing reads to primary: {}", ex.getMessage());
+            available = false;
+        }
+
+        if (available && !replicaAvailable) {
+            logger.info("Replica is within max lag, routing read-only transactions to replica");
+        }
+        replicaAvailable = available;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ecom.monolith.config;
+
+import com.ecom.monolith.Mapper.OrderMapper;
+import com.ecom.monolith.Mapper.ProductMapper;
+import com.ecom.monolith.repositories.ProductRepository;
+import com.ecom.monolith.service.ProductService;
+import com.ecom.monolith.warmup.WarmupRunner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.warmup", name = "enabled", havingValue = "true")
+public class WarmupConfig {
+
+    @Bean
+    public WarmupRunner warmupRunner(ProductRepository productRepository, ProductService productService,
+                                     ProductMapper productMapper, OrderMapper orderMapper, ObjectMapper objectMapper,
+                                     PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                     @Value("${app.warmup.budget:20s}") Duration budget,
+                                     @Value("${app.warmup.top-sellers:200}") int topSellers,
+                                     @Value("${app.warmup.jit-iterations:2000}") int jitIterations) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return new WarmupRunner(productRepository, productService, productMapper, orderMapper, objectMapper,
+                readOnlyTransaction, meterRegistry, budget, topSellers, jitIterations);
+    }
+}
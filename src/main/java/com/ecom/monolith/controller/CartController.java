@@ -1,7 +1,10 @@
 package com.ecom.monolith.controller;
 
+import com.ecom.monolith.Dto.CartBatchRequest;
+import com.ecom.monolith.Dto.CartLineResult;
 import com.ecom.monolith.Dto.CartRequest;
 import com.ecom.monolith.Dto.CartResponse;
+import com.ecom.monolith.ratelimit.RateLimited;
 import com.ecom.monolith.service.CartItemService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -14,6 +17,7 @@ import java.util.List;
 
 @RestController
 @RequestMapping("/api/cart")
+@RateLimited("cart")
 public class CartController {
 
     private static final Logger logger = LoggerFactory.getLogger(CartController.class);
@@ -26,34 +30,42 @@ public class CartController {
     @PostMapping
     public ResponseEntity<String> addItem(@RequestHeader("X-User-ID") String userId,
                                           @Valid @RequestBody CartRequest cartRequest) {
-        logger.info("POST /api/cart - Adding item to cart for userId={}, productId={}", userId, cartRequest.getProductId());
+        logger.debug("POST /api/cart - Adding item to cart for userId={}, productId={}", userId, cartRequest.getProductId());
 
         if (!cartItemService.addCartItem(userId, cartRequest)) {
-            logger.warn("Out of stock for productId={} requested by userId={}", cartRequest.getProductId(), userId);
+            logger.debug("Out of stock for productId={} requested by userId={}", cartRequest.getProductId(), userId);
             return new ResponseEntity<>("Out of stock!!", HttpStatus.NOT_FOUND);
         }
 
-        logger.info("Item added to cart successfully for userId={}", userId);
+        logger.debug("Item added to cart successfully for userId={}", userId);
         return new ResponseEntity<>("Added to cart", HttpStatus.OK);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<CartLineResult>> addItems(@RequestHeader("X-User-ID") String userId,
+                                                         @Valid @RequestBody CartBatchRequest cartBatchRequest) {
+        logger.debug("POST /api/cart/batch - Adding {} items to cart for userId={}", cartBatchRequest.getItems().size(), userId);
+        List<CartLineResult> results = cartItemService.addCartItems(userId, cartBatchRequest.getItems());
+        return ResponseEntity.ok(results);
+    }
+
     @DeleteMapping("/items/{productId}")
     public ResponseEntity<String> removeItem(@RequestHeader("X-User-ID") String userId,
                                              @PathVariable("productId") Long productId) {
-        logger.info("DELETE /api/cart/items/{} - Removing item for userId={}", productId, userId);
+        logger.debug("DELETE /api/cart/items/{} - Removing item for userId={}", productId, userId);
 
         if (!cartItemService.removeItem(userId, productId)) {
-            logger.warn("Cart not found or item not present for userId={}, productId={}", userId, productId);
+            logger.debug("Cart not found or item not present for userId={}, productId={}", userId, productId);
             return new ResponseEntity<>("Cart doesnt exist", HttpStatus.NOT_FOUND);
         }
 
-        logger.info("Item removed from cart successfully for userId={}, productId={}", userId, productId);
+        logger.debug("Item removed from cart successfully for userId={}, productId={}", userId, productId);
         return new ResponseEntity<>("Removed from cart", HttpStatus.OK);
     }
 
     @GetMapping
     public ResponseEntity<List<CartResponse>> getCartItems(@RequestHeader("X-User-ID") String userId) {
-        logger.info("GET /api/cart - Fetching cart items for userId={}", userId);
+        logger.debug("GET /api/cart - Fetching cart items for userId={}", userId);
         List<CartResponse> cartResponses=  cartItemService.getCartItems(userId);
         return ResponseEntity.ok(cartResponses);
     }
@@ -1,11 +1,14 @@
 package com.ecom.monolith.controller;
 
 import com.ecom.monolith.Dto.OrderResponse;
+import com.ecom.monolith.ratelimit.RateLimited;
 import com.ecom.monolith.service.OrderService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -23,12 +26,19 @@ public class OrderController {
     }
 
     @PostMapping
+    @RateLimited("orders")
     public ResponseEntity<OrderResponse> placeOrder(@RequestHeader("X-User-ID") String userId) {
-        logger.info("POST /api/orders - Placing order for userId={}", userId);
+        logger.debug("POST /api/orders - Placing order for userId={}", userId);
 
         OrderResponse orderResponse = orderService.placeOrder(userId);
 
-        logger.info("Order placed successfully for userId={}, orderId={}", userId, orderResponse.getId());
+        logger.debug("Order placed successfully for userId={}, orderId={}", userId, orderResponse.getId());
         return new ResponseEntity<>(orderResponse, HttpStatus.CREATED);
     }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<OrderResponse> getOrder(@RequestHeader("X-User-ID") String userId, @PathVariable("id") Long id) {
+        logger.debug("GET /api/orders/{} - Fetching order for userId={}", id, userId);
+        return ResponseEntity.ok(orderService.getOrder(userId, id));
+    }
 }
@@ -1,10 +1,17 @@
 package com.ecom.monolith.controller;
 
 import com.ecom.monolith.Dto.ProductDto;
+import com.ecom.monolith.Dto.ProductLookupRequest;
+import com.ecom.monolith.Dto.ProductLookupResponse;
+import com.ecom.monolith.exception.InvalidRequest;
+import com.ecom.monolith.ratelimit.RateLimited;
 import com.ecom.monolith.service.ProductService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,51 +24,81 @@ public class ProductController {
 
     private static final Logger logger = LoggerFactory.getLogger(ProductController.class);
     private final ProductService productService;
+    private final int maxLookupIds;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService,
+                             @Value("${app.products.lookup.max-ids:500}") int maxLookupIds) {
         this.productService = productService;
+        this.maxLookupIds = maxLookupIds;
     }
 
     @GetMapping
     public ResponseEntity<List<ProductDto>> getAllProducts() {
-        logger.info("GET /api/products - Fetching all products");
+        logger.debug("GET /api/products - Fetching all products");
         List<ProductDto> productDtos = productService.getAllProducts();
         return ResponseEntity.ok(productDtos);
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<ProductLookupResponse> findByIds(@RequestParam("ids") List<Long> ids) {
+        logger.debug("GET /api/products?ids= - Fetching {} products by ID", ids.size());
+        return ResponseEntity.ok(findProducts(ids));
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<ProductLookupResponse> lookupByIds(@Valid @RequestBody ProductLookupRequest lookupRequest) {
+        logger.debug("POST /api/products/lookup - Fetching {} products by ID", lookupRequest.getIds().size());
+        return ResponseEntity.ok(findProducts(lookupRequest.getIds()));
+    }
+
     @GetMapping("{id}")
     public ResponseEntity<ProductDto> findById(@PathVariable("id") Long id) {
-        logger.info("GET /api/products/{} - Fetching product by ID", id);
+        logger.debug("GET /api/products/{} - Fetching product by ID", id);
         ProductDto productDto = productService.findById(id);
         return ResponseEntity.ok(productDto);
     }
 
     @GetMapping("/search")
+    @RateLimited("search")
     public ResponseEntity<List<ProductDto>> findByKeyword(@RequestParam("keyword") String keyword) {
-        logger.info("GET /api/products/search?keyword={} - Searching products", keyword);
+        logger.debug("GET /api/products/search?keyword={} - Searching products", keyword);
         List<ProductDto> productDtos = productService.findByKeyword(keyword);
         return ResponseEntity.ok(productDtos);
     }
 
     @PostMapping
     public ResponseEntity<ProductDto> addProduct(@Valid @RequestBody ProductDto productDto) {
-        logger.info("POST /api/products - Adding new product with name={}", productDto.getName());
+        logger.debug("POST /api/products - Adding new product with name={}", productDto.getName());
         ProductDto savedProduct = productService.addProduct(productDto);
         return ResponseEntity.ok(savedProduct);
     }
 
     @PutMapping("{id}")
     public ResponseEntity<ProductDto> updateProduct(@PathVariable("id") Long id, @Valid @RequestBody ProductDto productDto) {
-        logger.info("PUT /api/products/{} - Updating product with name={}", id, productDto.getName());
+        logger.debug("PUT /api/products/{} - Updating product with name={}", id, productDto.getName());
         ProductDto savedProduct = productService.updateProduct(id, productDto);
         return ResponseEntity.ok(savedProduct);
     }
 
+    @PutMapping("{id}/stock-shards")
+    public ResponseEntity<ProductDto> shardStock(@PathVariable("id") Long id, @RequestParam("count") @Min(1) @Max(256) int count) {
+        logger.debug("PUT /api/products/{}/stock-shards - Splitting stock into {} shards", id, count);
+        ProductDto productDto = productService.shardStock(id, count);
+        return ResponseEntity.ok(productDto);
+    }
+
     @DeleteMapping("{id}")
     public ResponseEntity<String> deleteProduct(@PathVariable("id") Long id) {
-        logger.info("DELETE /api/products/{} - Deleting product", id);
+        logger.debug("DELETE /api/products/{} - Deleting product", id);
         String response = productService.deleteProduct(id);
-        logger.info("Product deleted. Response: {}", response);
+        logger.debug("Product deleted. Response: {}", response);
         return ResponseEntity.ok(response);
     }
+
+    private ProductLookupResponse findProducts(List<Long> ids) {
+        if (ids.size() > maxLookupIds) {
+            throw new InvalidRequest("Up to " + maxLookupIds + " product ids per lookup, got " + ids.size());
+        }
+        return productService.findByIds(ids);
+    }
 }
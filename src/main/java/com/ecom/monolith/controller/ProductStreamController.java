@@ -0,0 +1,41 @@
+package com.ecom.monolith.controller;
+
+import com.ecom.monolith.catalog.ProductStreamHub;
+import com.ecom.monolith.exception.InvalidRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/products")
+@ConditionalOnProperty(prefix = "app.product-stream", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductStreamController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductStreamController.class);
+    private final ProductStreamHub productStreamHub;
+    private final int maxIds;
+
+    public ProductStreamController(ProductStreamHub productStreamHub,
+                                   @Value("${app.product-stream.max-ids:100}") int maxIds) {
+        this.productStreamHub = productStreamHub;
+        this.maxIds = maxIds;
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam("ids") List<Long> ids) {
+        logger.debug("GET /api/products/stream - Subscribing to {} products", ids.size());
+        if (ids.isEmpty() || ids.size() > maxIds) {
+            throw new InvalidRequest("Subscribe to between 1 and " + maxIds + " product ids, got " + ids.size());
+        }
+        return productStreamHub.subscribe(ids);
+    }
+}
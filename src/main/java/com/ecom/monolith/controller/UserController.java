@@ -23,28 +23,28 @@ public class UserController {
 
     @GetMapping()
     public ResponseEntity<List<UsersDto>> getUsers() {
-        logger.info("GET /api/users - Fetching all users");
+        logger.debug("GET /api/users - Fetching all users");
         List<UsersDto> users = userService.getUsers();
         return ResponseEntity.ok(users);
     }
 
     @PostMapping()
     public ResponseEntity<UsersDto> addUser(@Valid @RequestBody UsersDto user) {
-        logger.info("POST /api/users - Adding new user with email={}", user.getEmail());
+        logger.debug("POST /api/users - Adding new user with email={}", user.getEmail());
         UsersDto usersDto = userService.addUser(user);
         return ResponseEntity.ok(usersDto);
     }
 
     @GetMapping("{id}")
     public ResponseEntity<UsersDto> findById(@PathVariable("id") Long id) {
-        logger.info("GET /api/users/{} - Fetching user by ID", id);
+        logger.debug("GET /api/users/{} - Fetching user by ID", id);
         UsersDto usersDto = userService.findById(id);
         return ResponseEntity.ok(usersDto);
     }
 
     @PutMapping("{id}")
     public ResponseEntity<UsersDto> updateUser(@PathVariable("id") Long id, @Valid @RequestBody UsersDto users) {
-        logger.info("PUT /api/users/{} - Updating user", id);
+        logger.debug("PUT /api/users/{} - Updating user", id);
         UsersDto usersDto = userService.updateUser(id, users);
         return ResponseEntity.ok(usersDto);
     }
@@ -16,9 +16,16 @@ public abstract class ApiException extends RuntimeException {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    // Misses are expected control flow, so skip capturing a stack trace unless the JVM was started
+    // with -Dapp.errors.stack-traces=true. Read once so every exception sees the same setting.
+    private static final boolean STACK_TRACES = Boolean.getBoolean("app.errors.stack-traces");
 
     public ApiException(String message, HttpStatus status, String errorCode) {
-        super(message);
+        this(message, status, errorCode, STACK_TRACES);
+    }
+
+    protected ApiException(String message, HttpStatus status, String errorCode, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
         this.status = status;
         this.errorCode = errorCode;
     }
@@ -2,12 +2,16 @@ package com.ecom.monolith.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
+import java.time.Duration;
 import java.util.stream.Collectors;
 
 @ControllerAdvice
@@ -15,9 +19,20 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
-    @ExceptionHandler(ResourceNotFound.class)
-    public ResponseEntity<ErrorResponse> handleApiException(ResourceNotFound ex) {
-        logger.error("Handled ResourceNotFound - code={}, message={}", ex.getErrorCode(), ex.getMessage());
+    private final LogRateLimiter logRateLimiter;
+
+    public GlobalExceptionHandler(@Value("${app.errors.log-limit:10}") int logLimit,
+                                  @Value("${app.errors.log-interval:1s}") Duration logInterval) {
+        this.logRateLimiter = new LogRateLimiter(logLimit, logInterval);
+    }
+
+    @ExceptionHandler(ApiException.class)
+    public ResponseEntity<ErrorResponse> handleApiException(ApiException ex) {
+        int suppressed = logRateLimiter.tryAcquire(ex.getErrorCode());
+        if (suppressed >= 0) {
+            logger.warn("Handled {} - code={}, message={}, suppressed since last={}",
+                    ex.getClass().getSimpleName(), ex.getErrorCode(), ex.getMessage(), suppressed);
+        }
 
         ErrorResponse response = new ErrorResponse(
                 ex.getStatus().value(),
@@ -26,6 +41,11 @@ public class GlobalExceptionHandler {
                 ex.getErrorCode()
         );
 
+        if (ex instanceof TooManyRequests tooManyRequests) {
+            return ResponseEntity.status(ex.getStatus())
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(tooManyRequests.getRetryAfterSeconds()))
+                    .body(response);
+        }
         return new ResponseEntity<>(response, ex.getStatus());
     }
 
@@ -46,4 +66,23 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ErrorResponse> handleParameterValidationException(HandlerMethodValidationException ex) {
+        String errorMessages = ex.getParameterValidationResults().stream()
+                .flatMap(result -> result.getResolvableErrors().stream()
+                        .map(error -> result.getMethodParameter().getParameterName() + ": " + error.getDefaultMessage()))
+                .collect(Collectors.joining("; "));
+
+        logger.warn("Validation failed: {}", errorMessages);
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                errorMessages,
+                "VALIDATION_ERROR"
+        );
+
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
 }
@@ -0,0 +1,12 @@
+package com.ecom.monolith.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class InsufficientStock extends ApiException {
+
+    public InsufficientStock(String message) {
+        super(message, HttpStatus.CONFLICT, "INSUFFICIENT_STOCK");
+    }
+}
@@ -0,0 +1,12 @@
+package com.ecom.monolith.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class InvalidRequest extends ApiException {
+
+    public InvalidRequest(String message) {
+        super(message, HttpStatus.BAD_REQUEST, "VALIDATION_ERROR");
+    }
+}
@@ -0,0 +1,53 @@
+package com.ecom.monolith.exception;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lets at most {@code limit} log lines per key through in each interval and counts the rest.
+ */
+public class LogRateLimiter {
+
+    private static class Window {
+
+        volatile long start;
+        final AtomicInteger logged = new AtomicInteger();
+        final AtomicInteger suppressed = new AtomicInteger();
+
+        Window(long start) {
+            this.start = start;
+        }
+    }
+
+    private final int limit;
+    private final long intervalNanos;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public LogRateLimiter(int limit, Duration interval) {
+        this.limit = limit;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    /**
+     * Returns -1 when the line should be dropped, otherwise the number of lines dropped for this key since the last one logged.
+     */
+    public int tryAcquire(String key) {
+        long now = System.nanoTime();
+        Window window = windows.computeIfAbsent(key, k -> new Window(now));
+        if (now - window.start >= intervalNanos) {
+            synchronized (window) {
+                if (now - window.start >= intervalNanos) {
+                    window.start = now;
+                    window.logged.set(0);
+                }
+            }
+        }
+        if (window.logged.incrementAndGet() > limit) {
+            window.suppressed.incrementAndGet();
+            return -1;
+        }
+        return window.suppressed.getAndSet(0);
+    }
+}
@@ -0,0 +1,15 @@
+package com.ecom.monolith.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class TooManyRequests extends ApiException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequests(String message, long retryAfterSeconds) {
+        super(message, HttpStatus.TOO_MANY_REQUESTS, "RATE_LIMITED");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,74 @@
+package com.ecom.monolith.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Warns when one request selects from the same table more than a threshold number of times,
+ * with the stack trace of the statement that crossed it.
+ */
+public class NPlusOneDetector implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(NPlusOneDetector.class);
+
+    private static final Pattern FROM_TABLE = Pattern.compile("\\bfrom\\s+([\\w.\"]+)", Pattern.CASE_INSENSITIVE);
+
+    private record Scope(String request, Map<String, Integer> selectsByTable) {
+    }
+
+    private final ThreadLocal<Scope> scope = new ThreadLocal<>();
+    private final int threshold;
+
+    public NPlusOneDetector(int threshold) {
+        this.threshold = threshold;
+    }
+
+    public void begin(String request) {
+        scope.set(new Scope(request, new HashMap<>()));
+    }
+
+    public void end() {
+        scope.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Scope current = scope.get();
+        if (current == null) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            String query = queryInfo.getQuery();
+            if (QueryUtils.getQueryType(query) != QueryType.SELECT) {
+                continue;
+            }
+            String table = table(query);
+            int selects = current.selectsByTable().merge(table, 1, Integer::sum);
+            if (selects == threshold + 1) {
+                logger.warn("Possible N+1 in {}: more than {} selects against table {}, latest: {}",
+                        current.request(), threshold, table, query, new Throwable("N+1 query origin"));
+            }
+        }
+    }
+
+    static String table(String query) {
+        Matcher matcher = FROM_TABLE.matcher(query);
+        return matcher.find() ? matcher.group(1).toLowerCase(Locale.ROOT) : "?";
+    }
+}
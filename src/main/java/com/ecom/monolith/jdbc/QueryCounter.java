@@ -0,0 +1,53 @@
+package com.ecom.monolith.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts executed statements by type across all threads, so tests driving the app over HTTP see the server's queries.
+ */
+public class QueryCounter implements QueryExecutionListener {
+
+    private final Map<QueryType, LongAdder> counts = new EnumMap<>(QueryType.class);
+
+    public QueryCounter() {
+        for (QueryType type : QueryType.values()) {
+            counts.put(type, new LongAdder());
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            counts.get(QueryUtils.getQueryType(queryInfo.getQuery())).increment();
+        }
+    }
+
+    public void reset() {
+        counts.values().forEach(LongAdder::reset);
+    }
+
+    public long count(QueryType type) {
+        return counts.get(type).sum();
+    }
+
+    public long selects() {
+        return count(QueryType.SELECT);
+    }
+
+    public long total() {
+        return counts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+}
@@ -0,0 +1,167 @@
+package com.ecom.monolith.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Statement latency per normalized SQL shape and database time per endpoint, with a slow-statement log.
+ */
+public class SqlStats implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStats.class);
+
+    private static final String OTHER_SHAPE = "<other>";
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public record ShapeReport(String sql, long count, double totalMillis, double meanMillis, double p50Millis,
+                              double p95Millis, double p99Millis, double maxMillis) {
+    }
+
+    public record EndpointReport(String endpoint, long requests, long statements, double dbMillis, double meanDbMillis) {
+    }
+
+    private static class RequestTiming {
+
+        final String endpoint;
+        long statements;
+        long dbNanos;
+
+        RequestTiming(String endpoint) {
+            this.endpoint = endpoint;
+        }
+    }
+
+    private static class EndpointTotals {
+
+        final LongAdder requests = new LongAdder();
+        final LongAdder statements = new LongAdder();
+        final LongAdder dbNanos = new LongAdder();
+    }
+
+    private final Map<String, LatencyHistogram> shapes = new ConcurrentHashMap<>();
+    private final Map<String, EndpointTotals> endpoints = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> statementStart = new ThreadLocal<>();
+    private final ThreadLocal<RequestTiming> request = new ThreadLocal<>();
+    private final long slowThresholdNanos;
+    private final int maxShapes;
+
+    public SqlStats(Duration slowThreshold, int maxShapes) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.maxShapes = maxShapes;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        statementStart.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = statementStart.get();
+        if (start == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        statementStart.remove();
+        long elapsed = System.nanoTime() - start;
+        String sql = queryInfoList.get(0).getQuery();
+
+        histogram(normalize(sql)).record(elapsed);
+
+        RequestTiming timing = request.get();
+        if (timing != null) {
+            timing.statements++;
+            timing.dbNanos += elapsed;
+        }
+        if (elapsed >= slowThresholdNanos) {
+            logger.warn("Slow statement took {} ms in {}: {}", elapsed / 1_000_000,
+                    timing != null ? timing.endpoint : "no request", sql);
+        }
+    }
+
+    public void beginRequest(String endpoint) {
+        request.set(new RequestTiming(endpoint));
+    }
+
+    public void endRequest() {
+        RequestTiming timing = request.get();
+        request.remove();
+        if (timing == null) {
+            return;
+        }
+        EndpointTotals totals = endpoints.computeIfAbsent(timing.endpoint, endpoint -> new EndpointTotals());
+        totals.requests.increment();
+        totals.statements.add(timing.statements);
+        totals.dbNanos.add(timing.dbNanos);
+    }
+
+    public List<ShapeReport> topShapes(int limit) {
+        return shapes.entrySet().stream()
+                .map(entry -> {
+                    LatencyHistogram histogram = entry.getValue();
+                    long count = histogram.count();
+                    return new ShapeReport(entry.getKey(), count, histogram.totalMillis(),
+                            count > 0 ? histogram.totalMillis() / count : 0, histogram.percentileMillis(50),
+                            histogram.percentileMillis(95), histogram.percentileMillis(99), histogram.maxMillis());
+                })
+                .sorted(Comparator.comparingDouble(ShapeReport::totalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public List<EndpointReport> topEndpoints(int limit) {
+        return endpoints.entrySet().stream()
+                .map(entry -> {
+                    EndpointTotals totals = entry.getValue();
+                    long requests = totals.requests.sum();
+                    double dbMillis = totals.dbNanos.sum() / 1e6;
+                    return new EndpointReport(entry.getKey(), requests, totals.statements.sum(), dbMillis,
+                            requests > 0 ? dbMillis / requests : 0);
+                })
+                .sorted(Comparator.comparingDouble(EndpointReport::dbMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public Map<String, Object> report(int limit) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("statements", topShapes(limit));
+        report.put("endpoints", topEndpoints(limit));
+        return report;
+    }
+
+    public void reset() {
+        shapes.clear();
+        endpoints.clear();
+    }
+
+    private LatencyHistogram histogram(String shape) {
+        LatencyHistogram histogram = shapes.get(shape);
+        if (histogram != null) {
+            return histogram;
+        }
+        // Bound memory when statements are built with inlined values that normalization misses
+        return shapes.computeIfAbsent(shapes.size() < maxShapes ? shape : OTHER_SHAPE, key -> new LatencyHistogram());
+    }
+
+    static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
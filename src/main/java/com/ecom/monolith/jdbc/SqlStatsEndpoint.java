@@ -0,0 +1,30 @@
+package com.ecom.monolith.jdbc;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+
+@Endpoint(id = "sqlstats")
+public class SqlStatsEndpoint {
+
+    private final SqlStats sqlStats;
+    private final int defaultTop;
+
+    public SqlStatsEndpoint(SqlStats sqlStats, int defaultTop) {
+        this.sqlStats = sqlStats;
+        this.defaultTop = defaultTop;
+    }
+
+    @ReadOperation
+    public Map<String, Object> sqlStats(@Nullable Integer top) {
+        return sqlStats.report(top != null ? top : defaultTop);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlStats.reset();
+    }
+}
@@ -0,0 +1,43 @@
+package com.ecom.monolith.jdbc;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Attributes statement time to the controller method handling the request. For async requests (the product stream)
+ * only the initial dispatch is measured; its timing ends when the request goes async, since {@code afterCompletion}
+ * is not called on that thread.
+ */
+public class SqlTimingInterceptor implements AsyncHandlerInterceptor {
+
+    private final SqlStats sqlStats;
+
+    public SqlTimingInterceptor(SqlStats sqlStats) {
+        this.sqlStats = sqlStats;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+            sqlStats.beginRequest(handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            sqlStats.endRequest();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (handler instanceof HandlerMethod) {
+            sqlStats.endRequest();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ecom.monolith.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.ecom.monolith.CartAdd")
+@Label("Cart Add")
+@Category({"Ecom", "Service"})
+@Description("CartItemService.addCartItem call")
+public class CartAddEvent extends Event {
+
+    @Label("User Id")
+    public String userId;
+
+    @Label("Product Id")
+    public String productId;
+
+    @Label("Quantity")
+    public int quantity;
+
+    @Label("Added")
+    public boolean added;
+}
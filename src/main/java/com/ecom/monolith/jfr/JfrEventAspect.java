@@ -0,0 +1,126 @@
+package com.ecom.monolith.jfr;
+
+import com.ecom.monolith.Dto.CartRequest;
+import com.ecom.monolith.Dto.OrderResponse;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps business operations and repository calls in custom Flight Recorder events.
+ * When an event type is disabled in the recording settings the call only pays for the isEnabled check.
+ */
+@Aspect
+public class JfrEventAspect {
+
+    private static final String REPOSITORY_PACKAGE = "com.ecom.monolith.repositories";
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("execution(* com.ecom.monolith.service.OrderServiceImpl.placeOrder(String)) && args(userId)")
+    public Object placeOrder(ProceedingJoinPoint joinPoint, String userId) throws Throwable {
+        OrderPlacementEvent event = new OrderPlacementEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        event.userId = userId;
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof OrderResponse order) {
+                event.productCount = order.getItems().size();
+            }
+            event.succeeded = true;
+            return result;
+        } finally {
+            event.commit();
+        }
+    }
+
+    @Around("execution(* com.ecom.monolith.service.CartItemServiceImpl.addCartItem(String, ..)) && args(userId, cartRequest)")
+    public Object addCartItem(ProceedingJoinPoint joinPoint, String userId, CartRequest cartRequest) throws Throwable {
+        CartAddEvent event = new CartAddEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        event.userId = userId;
+        event.productId = cartRequest.getProductId();
+        event.quantity = cartRequest.getQuantity();
+        try {
+            Object result = joinPoint.proceed();
+            event.added = Boolean.TRUE.equals(result);
+            return result;
+        } finally {
+            event.commit();
+        }
+    }
+
+    @Around("execution(* com.ecom.monolith.service.ProductServiceImpl.findByKeyword(String)) && args(keyword)")
+    public Object findByKeyword(ProceedingJoinPoint joinPoint, String keyword) throws Throwable {
+        ProductSearchEvent event = new ProductSearchEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        event.keyword = keyword;
+        try {
+            Object result = joinPoint.proceed();
+            event.productCount = (int) rowCount(result);
+            return result;
+        } finally {
+            event.commit();
+        }
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object repositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        event.repository = repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(), JfrEventAspect::repositoryName);
+        event.method = joinPoint.getSignature().getName();
+        try {
+            Object result = joinPoint.proceed();
+            event.rowCount = rowCount(result);
+            return result;
+        } finally {
+            event.commit();
+        }
+    }
+
+    static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Number number) {
+            return number.longValue();
+        }
+        if (result instanceof Boolean) {
+            return 0;
+        }
+        return 1;
+    }
+
+    private static String repositoryName(Class<?> proxyClass) {
+        for (Class<?> candidate : proxyClass.getInterfaces()) {
+            if (candidate.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                return candidate.getSimpleName();
+            }
+        }
+        return proxyClass.getSimpleName();
+    }
+}
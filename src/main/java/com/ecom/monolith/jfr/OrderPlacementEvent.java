@@ -0,0 +1,23 @@
+package com.ecom.monolith.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.ecom.monolith.OrderPlacement")
+@Label("Order Placement")
+@Category({"Ecom", "Service"})
+@Description("OrderService.placeOrder call")
+public class OrderPlacementEvent extends Event {
+
+    @Label("User Id")
+    public String userId;
+
+    @Label("Product Count")
+    public int productCount;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
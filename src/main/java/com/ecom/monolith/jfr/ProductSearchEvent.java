@@ -0,0 +1,20 @@
+package com.ecom.monolith.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.ecom.monolith.ProductSearch")
+@Label("Product Search")
+@Category({"Ecom", "Service"})
+@Description("ProductService.findByKeyword call")
+public class ProductSearchEvent extends Event {
+
+    @Label("Keyword")
+    public String keyword;
+
+    @Label("Product Count")
+    public int productCount;
+}
@@ -0,0 +1,24 @@
+package com.ecom.monolith.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.ecom.monolith.RepositoryCall")
+@Label("Repository Call")
+@Category({"Ecom", "Repository"})
+@Description("Spring Data repository method call")
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Row Count")
+    @Description("Entities returned, or rows affected by a modifying query")
+    public long rowCount;
+}
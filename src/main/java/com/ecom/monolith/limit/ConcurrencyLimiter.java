@@ -0,0 +1,62 @@
+package com.ecom.monolith.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts in-flight requests against a {@link GradientLimit}. Ordinary requests may only use part of the limit;
+ * the rest is held back for priority requests so they are the last to be shed.
+ */
+public class ConcurrencyLimiter {
+
+    private final GradientLimit limit;
+    private final double priorityShare;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder rejectedPriority = new LongAdder();
+
+    public ConcurrencyLimiter(GradientLimit limit, double priorityShare) {
+        this.limit = limit;
+        this.priorityShare = priorityShare;
+    }
+
+    public boolean tryAcquire(boolean priority) {
+        int max = priority ? limit.getLimit() : (int) Math.max(1, limit.getLimit() * (1 - priorityShare));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= max) {
+                (priority ? rejectedPriority : rejected).increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a slot taken by {@link #tryAcquire}; only requests that completed normally feed the latency estimate.
+     */
+    public void release(long rttNanos, boolean sample) {
+        int current = inFlight.getAndDecrement();
+        if (sample) {
+            limit.onSample(rttNanos, current);
+        }
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getRejectedPriority() {
+        return rejectedPriority.sum();
+    }
+}
@@ -0,0 +1,54 @@
+package com.ecom.monolith.limit;
+
+/**
+ * Gradient-style concurrency limit: compares a long-term latency average with each new sample.
+ * When latency rises above the baseline the limit shrinks by the ratio; when it holds steady the limit grows by
+ * roughly sqrt(limit), which leaves a small queue to probe for spare capacity.
+ */
+public class GradientLimit {
+
+    private static final double TOLERANCE = 1.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final int window;
+
+    private double limit;
+    private double longRttNanos;
+    private volatile int currentLimit;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double smoothing, int window) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.window = window;
+        this.limit = initialLimit;
+        this.currentLimit = initialLimit;
+    }
+
+    public int getLimit() {
+        return currentLimit;
+    }
+
+    public synchronized void onSample(long rttNanos, int inFlight) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        }
+        longRttNanos += (rttNanos - longRttNanos) / window;
+        // After an overload the baseline is inflated; let it drift back down so recovery is not too optimistic
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+        // Only grow when the limit is actually being used, otherwise idle periods would inflate it
+        if (inFlight < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / rttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        currentLimit = (int) limit;
+    }
+}
@@ -0,0 +1,92 @@
+package com.ecom.monolith.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps only a fraction of the INFO and lower events of selected loggers; WARN and ERROR always pass.
+ * Runs before the event is created, so a dropped line costs neither message formatting nor appender work.
+ * <p>
+ * {@code loggers} is a comma-separated list of logger name prefixes, each optionally with its own rate
+ * ({@code com.ecom.monolith.service.CartItemServiceImpl=0.01}); prefixes without one use {@code rate}.
+ * The longest matching prefix wins.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final double UNSAMPLED = -1;
+
+    private double rate = 1.0;
+    private String loggers = "";
+    private final Map<String, Double> prefixRates = new LinkedHashMap<>();
+    private final Map<String, Double> loggerRates = new ConcurrentHashMap<>();
+
+    public void setRate(double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("Sampling rate must be between 0 and 1: " + rate);
+        }
+        this.rate = rate;
+    }
+
+    public void setLoggers(String loggers) {
+        this.loggers = loggers;
+    }
+
+    @Override
+    public void start() {
+        prefixRates.clear();
+        loggerRates.clear();
+        for (String entry : loggers.split(",")) {
+            String prefix = entry.trim();
+            if (prefix.isEmpty()) {
+                continue;
+            }
+            double prefixRate = rate;
+            int separator = prefix.indexOf('=');
+            if (separator > 0) {
+                prefixRate = Double.parseDouble(prefix.substring(separator + 1).trim());
+                prefix = prefix.substring(0, separator).trim();
+            }
+            if (prefixRate < 0 || prefixRate > 1) {
+                addError("Sampling rate for " + prefix + " must be between 0 and 1: " + prefixRate);
+                return;
+            }
+            prefixRates.put(prefix, prefixRate);
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || level.isGreaterOrEqual(Level.WARN) || t != null) {
+            return FilterReply.NEUTRAL;
+        }
+        double loggerRate = loggerRates.computeIfAbsent(logger.getName(), this::rateFor);
+        if (loggerRate == UNSAMPLED || loggerRate >= 1.0) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < loggerRate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private double rateFor(String loggerName) {
+        String match = null;
+        for (String prefix : prefixRates.keySet()) {
+            if (matches(loggerName, prefix) && (match == null || prefix.length() > match.length())) {
+                match = prefix;
+            }
+        }
+        return match == null ? UNSAMPLED : prefixRates.get(match);
+    }
+
+    private static boolean matches(String loggerName, String prefix) {
+        return loggerName.startsWith(prefix)
+                && (loggerName.length() == prefix.length() || loggerName.charAt(prefix.length()) == '.');
+    }
+}
@@ -0,0 +1,104 @@
+package com.ecom.monolith.maintenance;
+
+import com.ecom.monolith.repositories.CartItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Deletes cart rows that have not been touched for {@code maxAge}. Each batch is its own short transaction that
+ * selects up to {@code batchSize} ids through the {@code updated_at} index and deletes them by primary key, so row
+ * locks are held for milliseconds and the replica gets small WAL bursts. The sweep pauses between batches, stops after
+ * {@code maxBatches} and stops early while {@code replicaLagging} reports true; the rest waits for the next run.
+ */
+public class CartExpirySweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(CartExpirySweeper.class);
+
+    private final CartItemRepository cartItemRepository;
+    private final TransactionOperations transaction;
+    private final BooleanSupplier replicaLagging;
+    private final Clock clock;
+    private final Duration maxAge;
+    private final int batchSize;
+    private final Duration pause;
+    private final int maxBatches;
+
+    private final Counter deleted;
+    private final Counter batches;
+    private final Counter throttled;
+    private final Timer runs;
+    private final AtomicLong lastRunDeleted = new AtomicLong();
+
+    public CartExpirySweeper(CartItemRepository cartItemRepository, TransactionOperations transaction,
+                             BooleanSupplier replicaLagging, Clock clock, Duration maxAge, int batchSize,
+                             Duration pause, int maxBatches, MeterRegistry meterRegistry) {
+        this.cartItemRepository = cartItemRepository;
+        this.transaction = transaction;
+        this.replicaLagging = replicaLagging;
+        this.clock = clock;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.maxBatches = maxBatches;
+        this.deleted = meterRegistry.counter("app.cart.expiry.deleted");
+        this.batches = meterRegistry.counter("app.cart.expiry.batches");
+        this.throttled = meterRegistry.counter("app.cart.expiry.throttled");
+        this.runs = meterRegistry.timer("app.cart.expiry.run");
+        meterRegistry.gauge("app.cart.expiry.last-run.deleted", lastRunDeleted);
+    }
+
+    @Scheduled(initialDelayString = "${app.cart.expiry.initial-delay:5m}", fixedDelayString = "${app.cart.expiry.interval:1h}")
+    public int sweep() {
+        return runs.record(this::sweepBatches);
+    }
+
+    private int sweepBatches() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(maxAge);
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            if (replicaLagging.getAsBoolean()) {
+                throttled.increment();
+                logger.warn("Replica is lagging, stopping cart expiry after {} rows", total);
+                break;
+            }
+            int count = transaction.execute(status -> {
+                List<Long> ids = cartItemRepository.findIdsUpdatedBefore(cutoff, PageRequest.of(0, batchSize));
+                return ids.isEmpty() ? 0 : cartItemRepository.deleteAllByIdIn(ids);
+            });
+            batches.increment();
+            deleted.increment(count);
+            total += count;
+            if (count < batchSize || !pause()) {
+                break;
+            }
+        }
+        lastRunDeleted.set(total);
+        if (total > 0) {
+            logger.info("Deleted {} cart items not updated since {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
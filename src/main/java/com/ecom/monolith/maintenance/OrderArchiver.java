@@ -0,0 +1,106 @@
+package com.ecom.monolith.maintenance;
+
+import com.ecom.monolith.service.OrderArchiveService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Moves orders older than {@code retentionMonths} whole calendar months into the compressed archive, batch by batch
+ * with a pause in between, and stops early while {@code replicaLagging} reports true. When the tables are partitioned
+ * the partitions emptied by a run are dropped afterwards, so the live tables shed old months without a vacuum.
+ */
+public class OrderArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderArchiver.class);
+
+    private final OrderArchiveService orderArchiveService;
+    private final OrderPartitionManager partitionManager;
+    private final BooleanSupplier replicaLagging;
+    private final Clock clock;
+    private final int retentionMonths;
+    private final int batchSize;
+    private final Duration pause;
+    private final int maxBatches;
+
+    private final Counter archived;
+    private final Counter batches;
+    private final Counter throttled;
+    private final Counter droppedPartitions;
+    private final Timer runs;
+
+    public OrderArchiver(OrderArchiveService orderArchiveService, OrderPartitionManager partitionManager,
+                         BooleanSupplier replicaLagging, Clock clock, int retentionMonths, int batchSize,
+                         Duration pause, int maxBatches, MeterRegistry meterRegistry) {
+        this.orderArchiveService = orderArchiveService;
+        this.partitionManager = partitionManager;
+        this.replicaLagging = replicaLagging;
+        this.clock = clock;
+        this.retentionMonths = retentionMonths;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.maxBatches = maxBatches;
+        this.archived = meterRegistry.counter("app.orders.archive.archived");
+        this.batches = meterRegistry.counter("app.orders.archive.batches");
+        this.throttled = meterRegistry.counter("app.orders.archive.throttled");
+        this.droppedPartitions = meterRegistry.counter("app.orders.archive.partitions-dropped");
+        this.runs = meterRegistry.timer("app.orders.archive.run");
+    }
+
+    @Scheduled(cron = "${app.orders.archive.cron:0 30 3 * * *}")
+    public int archive() {
+        return runs.record(this::archiveBatches);
+    }
+
+    private int archiveBatches() {
+        // Whole months only, so every partition is emptied in full and can be dropped
+        YearMonth cutoffMonth = YearMonth.now(clock).minusMonths(retentionMonths);
+        LocalDateTime cutoff = cutoffMonth.atDay(1).atStartOfDay();
+        int total = 0;
+        boolean finished = false;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            if (replicaLagging.getAsBoolean()) {
+                throttled.increment();
+                logger.warn("Replica is lagging, stopping order archival after {} orders", total);
+                break;
+            }
+            int count = orderArchiveService.archiveOrdersCreatedBefore(cutoff, batchSize);
+            batches.increment();
+            archived.increment(count);
+            total += count;
+            if (count < batchSize) {
+                finished = true;
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            logger.info("Archived {} orders created before {}", total, cutoff);
+        }
+        if (finished && partitionManager != null) {
+            droppedPartitions.increment(partitionManager.dropEmptyPartitionsBefore(cutoffMonth));
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.ecom.monolith.maintenance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the monthly range partitions of {@code orders} and {@code order_item} on PostgreSQL, as laid out by
+ * {@code db/postgres/orders-partitioning.sql}. Partitions are created {@code monthsAhead} months in advance so inserts
+ * never land in the default partition, and partitions emptied by the archival job are dropped instead of vacuumed.
+ */
+public class OrderPartitionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderPartitionManager.class);
+
+    private static final List<String> TABLES = List.of("orders", "order_item");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern PARTITION = Pattern.compile("(orders|order_item)_p(\\d{6})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final int monthsAhead;
+
+    public OrderPartitionManager(JdbcTemplate jdbcTemplate, Clock clock, int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Scheduled(initialDelayString = "${app.orders.partitioning.initial-delay:1m}", fixedDelayString = "${app.orders.partitioning.interval:1d}")
+    public void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now(clock);
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            for (String table : TABLES) {
+                try {
+                    jdbcTemplate.execute("create table if not exists %s partition of %s for values from ('%s') to ('%s')"
+                            .formatted(partitionName(table, month), table, month.atDay(1), month.plusMonths(1).atDay(1)));
+                } catch (DataAccessException ex) {
+                    // Typically rows for that month already sit in the default partition; leave them for an operator
+                    logger.warn("Could not create partition {}: {}", partitionName(table, month), ex.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the empty monthly partitions of both tables that end on or before {@code cutoff}. Partitions that still
+     * hold rows are kept; an order item written in the first moments of a month can trail its order by one partition.
+     */
+    public int dropEmptyPartitionsBefore(YearMonth cutoff) {
+        int dropped = 0;
+        for (String table : TABLES) {
+            List<String> partitions = jdbcTemplate.queryForList("""
+                    select child.relname from pg_inherits
+                    join pg_class child on child.oid = pg_inherits.inhrelid
+                    join pg_class parent on parent.oid = pg_inherits.inhparent
+                    join pg_namespace ns on ns.oid = parent.relnamespace
+                    where parent.relname = ? and ns.nspname = current_schema()
+                      and child.relnamespace = parent.relnamespace""", String.class, table);
+            for (String partition : partitions) {
+                Matcher matcher = PARTITION.matcher(partition);
+                if (!matcher.matches() || !YearMonth.parse(matcher.group(2), SUFFIX).isBefore(cutoff)) {
+                    continue;
+                }
+                // Quoted so the catalog name is used as found; unqualified, it resolves to current_schema(), the schema searched
+                Boolean empty = jdbcTemplate.queryForObject("select not exists (select 1 from %s)".formatted(quoted(partition)),
+                        Boolean.class);
+                if (Boolean.TRUE.equals(empty)) {
+                    jdbcTemplate.execute("drop table " + quoted(partition));
+                    logger.info("Dropped archived partition {}", partition);
+                    dropped++;
+                }
+            }
+        }
+        return dropped;
+    }
+
+    static String partitionName(String table, YearMonth month) {
+        return table + "_p" + month.format(SUFFIX);
+    }
+
+    private static String quoted(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,48 @@
+package com.ecom.monolith.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * An order moved out of {@code orders} and {@code order_item} by the archival job. The order and its items are kept
+ * as one gzipped JSON document, so a cold order is a single row instead of one per item.
+ */
+@Data
+@Entity
+@Table(name = "order_archive", indexes = @Index(name = "idx_order_archive_user_id", columnList = "user_id"))
+public class ArchivedOrder implements Persistable<Long> {
+
+    // Keeps the id of the original order
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Column(nullable = false, length = 1_048_576)
+    private byte[] payload;
+
+    // The id is assigned, so without this every save would select the row first to decide between insert and merge
+    @Transient
+    private boolean inserted;
+
+    @Override
+    public boolean isNew() {
+        return !inserted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markInserted() {
+        inserted = true;
+    }
+}
@@ -12,6 +12,8 @@ import java.util.List;
 
 @Data
 @Entity(name = "orders")
+// Lets the archival job page through old orders with a range scan
+@Table(indexes = @Index(name = "idx_orders_created_at", columnList = "created_at"))
 public class Order {
 
     @Id
@@ -1,11 +1,14 @@
 package com.ecom.monolith.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -15,6 +18,8 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Product {
 
     @Id
@@ -29,6 +34,9 @@ public class Product {
 
     private Integer stockQuantity;
 
+    // When greater than one, stock lives in ProductStockShard rows and stockQuantity is only refreshed on rebalance
+    private Integer stockShards;
+
     private String category;
 
     private String imageUrl;
@@ -40,4 +48,8 @@ public class Product {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    public boolean isStockSharded() {
+        return stockShards != null && stockShards > 1;
+    }
 }
@@ -0,0 +1,32 @@
+package com.ecom.monolith.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"product_id", "shard_no"}))
+public class ProductStockShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    public ProductStockShard(Product product, Integer shardNo, Integer quantity) {
+        this.product = product;
+        this.shardNo = shardNo;
+        this.quantity = quantity;
+    }
+}
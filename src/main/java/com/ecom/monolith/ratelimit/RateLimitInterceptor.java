@@ -0,0 +1,68 @@
+package com.ecom.monolith.ratelimit;
+
+import com.ecom.monolith.exception.TooManyRequests;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the {@link RateLimited} policy of the handler to the caller, keyed by X-User-ID (remote address when absent)
+ * and the handler method, and rejects with 429 once the bucket is empty.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    record Route(String name, RateLimitProperties.Policy policy) {
+    }
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Map<String, RateLimitProperties.Policy> policies;
+    private final Map<Method, Optional<Route>> routes = new ConcurrentHashMap<>();
+
+    public RateLimitInterceptor(TokenBucketRateLimiter rateLimiter, Map<String, RateLimitProperties.Policy> policies) {
+        this.rateLimiter = rateLimiter;
+        this.policies = policies;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        Optional<Route> route = routes.computeIfAbsent(handlerMethod.getMethod(), method -> route(handlerMethod));
+        if (route.isEmpty()) {
+            return true;
+        }
+
+        String userId = request.getHeader("X-User-ID");
+        String caller = userId != null ? userId : request.getRemoteAddr();
+        long waitNanos = rateLimiter.tryAcquire(route.get().name() + "|" + caller, route.get().policy());
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            throw new TooManyRequests("Rate limit exceeded for " + route.get().name(), retryAfterSeconds);
+        }
+        return true;
+    }
+
+    private Optional<Route> route(HandlerMethod handlerMethod) {
+        RateLimited rateLimited = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), RateLimited.class);
+        if (rateLimited == null) {
+            rateLimited = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), RateLimited.class);
+        }
+        if (rateLimited == null) {
+            return Optional.empty();
+        }
+        RateLimitProperties.Policy policy = policies.get(rateLimited.value());
+        if (policy == null) {
+            throw new IllegalStateException("No app.rate-limit.policies entry named " + rateLimited.value());
+        }
+        return Optional.of(new Route(handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName(), policy));
+    }
+}
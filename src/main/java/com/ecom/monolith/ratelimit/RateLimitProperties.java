@@ -0,0 +1,23 @@
+package com.ecom.monolith.ratelimit;
+
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+public class RateLimitProperties {
+
+    private int maxKeys = 100_000;
+
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    @Data
+    public static class Policy {
+
+        // Burst size: requests allowed back to back from a full bucket
+        private int capacity = 20;
+
+        private double refillPerSecond = 10;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecom.monolith.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Applies the named {@code app.rate-limit.policies} entry to a controller or a single handler method.
+ * A method annotation overrides the one on its controller.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface RateLimited {
+
+    String value();
+}
@@ -0,0 +1,97 @@
+package com.ecom.monolith.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets kept as a single "theoretical arrival time" per key (GCRA), updated with a CAS instead of a lock.
+ * A key whose arrival time is in the past has a full bucket, which is the same as having no entry,
+ * so idle keys can be dropped without changing any decision. At most {@code maxKeys} entries are kept.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenBucketRateLimiter.class);
+
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final Map<String, AtomicLong> arrivals = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public TokenBucketRateLimiter(int maxKeys) {
+        this(maxKeys, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int maxKeys, LongSupplier nanoClock) {
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Takes one token for the key. Returns 0 when the request may proceed, otherwise the nanos until a token is available.
+     */
+    public long tryAcquire(String key, RateLimitProperties.Policy policy) {
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / policy.getRefillPerSecond());
+        long burst = interval * (policy.getCapacity() - 1);
+        long now = nanoClock.getAsLong();
+
+        AtomicLong arrival = arrivals.get(key);
+        if (arrival == null) {
+            if (arrivals.size() >= maxKeys) {
+                evict(now);
+            }
+            arrival = arrivals.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long tat = arrival.get();
+            long start = tat - now > 0 ? tat : now;
+            long wait = start - burst - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(tat, start + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval:30s}")
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        arrivals.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+    }
+
+    int size() {
+        return arrivals.size();
+    }
+
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            arrivals.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+            int excess = arrivals.size() - maxKeys + maxKeys / 10;
+            if (excess > 0) {
+                // Every key is throttled; forgetting some of them is the price of a fixed memory bound
+                logger.warn("Rate limiter holds {} active keys, dropping {}", arrivals.size(), excess);
+                Iterator<String> keys = arrivals.keySet().iterator();
+                while (excess-- > 0 && keys.hasNext()) {
+                    keys.next();
+                    keys.remove();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
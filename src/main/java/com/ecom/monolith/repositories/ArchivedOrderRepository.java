@@ -0,0 +1,11 @@
+package com.ecom.monolith.repositories;
+
+import com.ecom.monolith.model.ArchivedOrder;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    Optional<ArchivedOrder> findByIdAndUserId(Long id, Long userId);
+}
@@ -3,8 +3,15 @@ package com.ecom.monolith.repositories;
 import com.ecom.monolith.model.CartItem;
 import com.ecom.monolith.model.Product;
 import com.ecom.monolith.model.Users;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,5 +19,15 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
 
     Optional<CartItem> findByUsersAndProduct(Users users, Product product);
 
+    @EntityGraph(attributePaths = "product")
     List<CartItem> findByUsersId(Long userId);
+
+    List<CartItem> findByUsersIdAndProductIdIn(Long userId, Collection<Long> productIds);
+
+    @Query("select c.id from CartItem c where c.updatedAt < :cutoff order by c.updatedAt")
+    List<Long> findIdsUpdatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("delete from CartItem c where c.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
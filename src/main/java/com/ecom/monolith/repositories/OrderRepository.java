@@ -1,7 +1,41 @@
 package com.ecom.monolith.repositories;
 
 import com.ecom.monolith.model.Order;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    @EntityGraph(attributePaths = {"items", "items.product"})
+    Optional<Order> findByIdAndUsersId(Long id, Long userId);
+
+    // SKIP LOCKED (lock timeout -2): archivers on other instances take the next rows instead of the same ones
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o.id from orders o where o.createdAt < :cutoff order by o.createdAt")
+    List<Long> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"users", "items", "items.product"})
+    List<Order> findAllByIdIn(Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from OrderItem i where i.order.id in :ids")
+    int deleteItemsByOrderIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from orders o where o.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,13 @@
+package com.ecom.monolith.repositories;
+
+import com.ecom.monolith.model.Product;
+
+import java.util.List;
+
+public interface ProductLookupRepository {
+
+    /**
+     * Loads products by id, returning them in the order of {@code ids} with {@code null} for ids that do not exist.
+     */
+    List<Product> findAllInRequestOrder(List<Long> ids);
+}
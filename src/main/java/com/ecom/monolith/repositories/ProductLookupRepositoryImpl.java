@@ -0,0 +1,35 @@
+package com.ecom.monolith.repositories;
+
+import com.ecom.monolith.model.Product;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.List;
+
+/**
+ * Multi-load checks the persistence context and the second-level cache first and only selects the remaining ids,
+ * {@code batchSize} at a time in one {@code IN} query each.
+ */
+public class ProductLookupRepositoryImpl implements ProductLookupRepository {
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public ProductLookupRepositoryImpl(EntityManager entityManager,
+                                       @Value("${app.products.lookup.batch-size:100}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public List<Product> findAllInRequestOrder(List<Long> ids) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Product.class)
+                .with(CacheMode.NORMAL)
+                .withBatchSize(batchSize)
+                .enableOrderedReturn(true)
+                .multiLoad(ids);
+    }
+}
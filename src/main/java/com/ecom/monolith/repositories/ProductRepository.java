@@ -1,14 +1,24 @@
 package com.ecom.monolith.repositories;
 
 import com.ecom.monolith.model.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductLookupRepository {
 
     List<Product> findByNameContainingIgnoreCaseAndActiveTrue(String keyword);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Product> findByActiveTrue();
+
+    @Query("select oi.product.id from OrderItem oi where oi.product.active = true "
+            + "group by oi.product.id order by sum(oi.quantity) desc")
+    List<Long> findTopSellingIds(Pageable pageable);
 }
@@ -0,0 +1,42 @@
+package com.ecom.monolith.repositories;
+
+import com.ecom.monolith.model.ProductStockShard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductStockShardRepository extends JpaRepository<ProductStockShard, Long> {
+
+    @Modifying
+    @Query("update ProductStockShard s set s.quantity = s.quantity - :quantity " +
+            "where s.product.id = :productId and s.shardNo = :shardNo and s.quantity >= :quantity")
+    int decrement(@Param("productId") Long productId, @Param("shardNo") int shardNo, @Param("quantity") int quantity);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ProductStockShard s where s.product.id = :productId order by s.shardNo")
+    List<ProductStockShard> findAllForUpdate(@Param("productId") Long productId);
+
+    @Query("select coalesce(sum(s.quantity), 0) from ProductStockShard s where s.product.id = :productId")
+    long sumQuantity(@Param("productId") Long productId);
+
+    @Query("select s.product.id as productId, sum(s.quantity) as quantity from ProductStockShard s " +
+            "where s.product.id in :productIds group by s.product.id")
+    List<ShardTotal> sumQuantityByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("delete from ProductStockShard s where s.product.id = :productId")
+    void deleteByProductId(@Param("productId") Long productId);
+
+    interface ShardTotal {
+
+        Long getProductId();
+
+        Long getQuantity();
+    }
+}
@@ -1,5 +1,6 @@
 package com.ecom.monolith.service;
 
+import com.ecom.monolith.Dto.CartLineResult;
 import com.ecom.monolith.Dto.CartRequest;
 import com.ecom.monolith.Dto.CartResponse;
 
@@ -8,6 +9,8 @@ import java.util.List;
 public interface CartItemService {
     Boolean addCartItem(String userId, CartRequest cartRequest);
 
+    List<CartLineResult> addCartItems(String userId, List<CartRequest> cartRequests);
+
     boolean removeItem(String userId, Long productId);
 
     List<CartResponse> getCartItems(String userId);
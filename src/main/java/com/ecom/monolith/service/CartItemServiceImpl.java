@@ -1,5 +1,6 @@
 package com.ecom.monolith.service;
 
+import com.ecom.monolith.Dto.CartLineResult;
 import com.ecom.monolith.Dto.CartRequest;
 import com.ecom.monolith.Dto.CartResponse;
 import com.ecom.monolith.Mapper.CartMapper;
@@ -13,10 +14,18 @@ import com.ecom.monolith.repositories.UsersRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class CartItemServiceImpl implements CartItemService {
@@ -27,26 +36,31 @@ public class CartItemServiceImpl implements CartItemService {
     private final ProductRepository productRepository;
     private final CartItemRepository cartItemRepository;
     private final CartMapper cartMapper;
+    private final StockReservationService stockReservationService;
 
-    public CartItemServiceImpl(UsersRepository usersRepository, ProductRepository productRepository, CartItemRepository cartItemRepository, CartMapper cartMapper) {
+    public CartItemServiceImpl(UsersRepository usersRepository, ProductRepository productRepository, CartItemRepository cartItemRepository,
+                               CartMapper cartMapper, StockReservationService stockReservationService) {
         this.usersRepository = usersRepository;
         this.productRepository = productRepository;
         this.cartItemRepository = cartItemRepository;
         this.cartMapper = cartMapper;
+        this.stockReservationService = stockReservationService;
     }
 
     @Override
+    @Transactional
     public Boolean addCartItem(String userId, CartRequest cartRequest) {
         logger.info("Adding item to cart for userId={}, productId={}, quantity={}", userId, cartRequest.getProductId(), cartRequest.getQuantity());
 
         Product product = productRepository.findById(Long.valueOf(cartRequest.getProductId()))
                 .orElseThrow(() -> new ResourceNotFound("Product not found with id: " + cartRequest.getProductId()));
 
-        if (product.getStockQuantity() < cartRequest.getQuantity()) {
+        if (!stockReservationService.reserve(userId, product, cartRequest.getQuantity())) {
             logger.warn("Out of stock for productId={} requested by userId={}", cartRequest.getProductId(), userId);
             return false;
         }
 
+        // A failure from here on rolls back, which also releases the hold
         Users users = usersRepository.findById(Long.valueOf(userId))
                 .orElseThrow(() -> new ResourceNotFound("User does not exist with id: " + userId));
 
@@ -73,6 +87,69 @@ public class CartItemServiceImpl implements CartItemService {
     }
 
     @Override
+    @Transactional
+    public List<CartLineResult> addCartItems(String userId, List<CartRequest> cartRequests) {
+        logger.info("Adding {} cart lines for userId={}", cartRequests.size(), userId);
+
+        Users users = usersRepository.findById(Long.valueOf(userId))
+                .orElseThrow(() -> new ResourceNotFound("User does not exist with id: " + userId));
+
+        Set<Long> productIds = new HashSet<>();
+        for (CartRequest cartRequest : cartRequests) {
+            Long productId = parseId(cartRequest.getProductId());
+            if (productId != null) {
+                productIds.add(productId);
+            }
+        }
+        if (productIds.isEmpty()) {
+            logger.warn("No valid product ids in {} cart lines for userId={}", cartRequests.size(), userId);
+            return cartRequests.stream()
+                    .map(cartRequest -> new CartLineResult(cartRequest.getProductId(), cartRequest.getQuantity(), CartLineResult.Status.NOT_FOUND))
+                    .toList();
+        }
+        Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<Long, CartItem> cartItems = cartItemRepository.findByUsersIdAndProductIdIn(users.getId(), productIds).stream()
+                .collect(Collectors.toMap(cartItem -> cartItem.getProduct().getId(), Function.identity()));
+
+        List<CartLineResult> results = new ArrayList<>(cartRequests.size());
+        Map<Long, CartItem> changed = new LinkedHashMap<>();
+        for (CartRequest cartRequest : cartRequests) {
+            Product product = products.get(parseId(cartRequest.getProductId()));
+            if (product == null) {
+                results.add(new CartLineResult(cartRequest.getProductId(), cartRequest.getQuantity(), CartLineResult.Status.NOT_FOUND));
+                continue;
+            }
+            if (!stockReservationService.reserve(userId, product, cartRequest.getQuantity())) {
+                results.add(new CartLineResult(cartRequest.getProductId(), cartRequest.getQuantity(), CartLineResult.Status.OUT_OF_STOCK));
+                continue;
+            }
+
+            CartItem cartItem = cartItems.get(product.getId());
+            CartLineResult.Status status = CartLineResult.Status.UPDATED;
+            if (cartItem == null) {
+                cartItem = new CartItem();
+                cartItem.setProduct(product);
+                cartItem.setUsers(users);
+                cartItem.setQuantity(0);
+                cartItems.put(product.getId(), cartItem);
+                status = CartLineResult.Status.ADDED;
+            }
+            cartItem.setQuantity(cartItem.getQuantity() + cartRequest.getQuantity());
+            cartItem.setPrice(product.getPrice().multiply(BigDecimal.valueOf(cartItem.getQuantity())));
+            changed.put(product.getId(), cartItem);
+            results.add(new CartLineResult(cartRequest.getProductId(), cartRequest.getQuantity(), status));
+        }
+
+        // Each hold is released if the transaction rolls back, including a failure at commit
+        cartItemRepository.saveAll(changed.values());
+
+        logger.info("Saved {} cart rows from {} lines for userId={}", changed.size(), cartRequests.size(), userId);
+        return results;
+    }
+
+    @Override
+    @Transactional
     public boolean removeItem(String userId, Long productId) {
         logger.info("Removing item from cart for userId={}, productId={}", userId, productId);
 
@@ -85,6 +162,7 @@ public class CartItemServiceImpl implements CartItemService {
         Optional<CartItem> cartItem = cartItemRepository.findByUsersAndProduct(users, product);
         if (cartItem.isPresent()) {
             cartItemRepository.delete(cartItem.get());
+            stockReservationService.releaseAll(userId, productId);
             logger.info("Removed cart item for userId={}, productId={}", userId, productId);
             return true;
         }
@@ -94,6 +172,7 @@ public class CartItemServiceImpl implements CartItemService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CartResponse> getCartItems(String userId) {
         logger.info("Fetching cart items for userId={}", userId);
 
@@ -106,4 +185,12 @@ public class CartItemServiceImpl implements CartItemService {
         logger.info("Found {} cart items for userId={}", cartItems.size(), userId);
         return cartItems;
     }
+
+    private static Long parseId(String productId) {
+        try {
+            return Long.valueOf(productId);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
 }
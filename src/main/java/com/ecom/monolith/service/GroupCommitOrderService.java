@@ -0,0 +1,228 @@
+package com.ecom.monolith.service;
+
+import com.ecom.monolith.Dto.OrderResponse;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Places orders from many users in one transaction so concurrent checkouts share a single commit.
+ * Each order runs behind its own savepoint, so a failing order is rolled back alone and the rest still commit together.
+ * This needs the transaction manager to leave the rollback decision to the batch (see {@code GroupCommitConfig}).
+ * A request the flusher has not picked up within {@code queueTimeout} is taken back and placed on the caller's thread;
+ * once picked up, the flusher always completes it.
+ */
+public class GroupCommitOrderService implements OrderService, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitOrderService.class);
+
+    private record PendingOrder(String userId, CompletableFuture<OrderResponse> result) {
+    }
+
+    private final OrderService delegate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final BlockingQueue<PendingOrder> queue;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long queueTimeoutNanos;
+    private final Thread flusher;
+
+    private volatile boolean running = true;
+
+    public GroupCommitOrderService(OrderService delegate, PlatformTransactionManager transactionManager,
+                                   EntityManager entityManager, int queueCapacity, int maxBatchSize, Duration maxWait,
+                                   Duration queueTimeout) {
+        this.delegate = delegate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.flusher = Thread.ofPlatform().name("order-group-commit").daemon().start(this::run);
+    }
+
+    @Override
+    public OrderResponse placeOrder(String userId) {
+        PendingOrder pending = new PendingOrder(userId, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            logger.debug("Group commit queue full, placing order for userId={} directly", userId);
+            return delegate.placeOrder(userId);
+        }
+        // destroy() may have drained the queue between the running check and the offer
+        if (!running && queue.remove(pending)) {
+            return delegate.placeOrder(userId);
+        }
+        try {
+            return await(pending);
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public OrderResponse getOrder(String userId, Long orderId) {
+        return delegate.getOrder(userId, orderId);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        List<PendingOrder> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(this::placeIndividually);
+    }
+
+    private OrderResponse await(PendingOrder pending) {
+        try {
+            return pending.result().get(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            // Still queued means no batch has it, so placing it here cannot place it twice
+            if (queue.remove(pending)) {
+                logger.warn("Order for userId={} was not picked up within {} ms, placing it directly",
+                        pending.userId(), TimeUnit.NANOSECONDS.toMillis(queueTimeoutNanos));
+                return delegate.placeOrder(pending.userId());
+            }
+            return pending.result().join();
+        } catch (ExecutionException ex) {
+            throw new CompletionException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(ex);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<PendingOrder> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    flushCompletingAll(batch);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                logger.error("Group commit flusher failed", ex);
+            }
+        }
+    }
+
+    private List<PendingOrder> nextBatch() throws InterruptedException {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        PendingOrder first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            PendingOrder next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+        return batch;
+    }
+
+    private void flushCompletingAll(List<PendingOrder> batch) {
+        try {
+            flush(batch);
+        } finally {
+            // No-op for the orders flush completed; anything else (an Error, a failure past its catch blocks) must
+            // not leave a caller waiting forever
+            IllegalStateException failure = new IllegalStateException("Group commit failed, order outcome unknown");
+            batch.forEach(pending -> pending.result().completeExceptionally(failure));
+        }
+    }
+
+    private void flush(List<PendingOrder> batch) {
+        Map<PendingOrder, OrderResponse> placed = new LinkedHashMap<>();
+        Map<PendingOrder, RuntimeException> failed = new LinkedHashMap<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> placeAll(batch, status, placed, failed));
+        } catch (RuntimeException ex) {
+            // Failed orders may have lost only to stock their rolled back batch mates held, so they get another go too
+            logger.warn("Group commit of {} orders failed, placing them individually: {}", batch.size(), ex.getMessage());
+            batch.forEach(this::placeIndividually);
+            return;
+        }
+        placed.forEach((pending, response) -> pending.result().complete(response));
+        failed.forEach((pending, failure) -> pending.result().completeExceptionally(failure));
+        logger.debug("Group committed {} orders, {} failed", placed.size(), failed.size());
+    }
+
+    private void placeAll(List<PendingOrder> batch, TransactionStatus status, Map<PendingOrder, OrderResponse> placed,
+                          Map<PendingOrder, RuntimeException> failed) {
+        // JpaTransactionManager offers no savepoints for Hibernate, so take them on the session's own connection
+        Session session = entityManager.unwrap(Session.class);
+        for (PendingOrder pending : batch) {
+            // Write out the orders placed so far, so the savepoint covers them and a rollback to it keeps them
+            session.flush();
+            Savepoint savepoint = session.doReturningWork(Connection::setSavepoint);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.isSynchronizationActive()
+                    ? TransactionSynchronizationManager.getSynchronizations() : List.of();
+            try {
+                placed.put(pending, delegate.placeOrder(pending.userId()));
+                session.doWork(connection -> connection.releaseSavepoint(savepoint));
+            } catch (RuntimeException ex) {
+                // Hibernate marks the transaction rollback-only when it cannot vouch for the session any more
+                if (status.isRollbackOnly()) {
+                    throw ex;
+                }
+                session.doWork(connection -> connection.rollback(savepoint));
+                discardChangesSince(synchronizations);
+                failed.put(pending, ex);
+            }
+        }
+    }
+
+    // Drops what the failed order left behind above the database: unflushed entity changes, and after-commit callbacks
+    // such as stock change events or hold conversions
+    private void discardChangesSince(List<TransactionSynchronization> synchronizations) {
+        entityManager.clear();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        synchronizations.forEach(TransactionSynchronizationManager::registerSynchronization);
+    }
+
+    private void placeIndividually(PendingOrder pending) {
+        try {
+            pending.result().complete(delegate.placeOrder(pending.userId()));
+        } catch (RuntimeException ex) {
+            pending.result().completeExceptionally(ex);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.ecom.monolith.service;
+
+import com.ecom.monolith.Dto.OrderResponse;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface OrderArchiveService {
+    int archiveOrdersCreatedBefore(LocalDateTime cutoff, int batchSize);
+
+    Optional<OrderResponse> findArchivedOrder(Long userId, Long orderId);
+}
@@ -0,0 +1,102 @@
+package com.ecom.monolith.service;
+
+import com.ecom.monolith.Dto.OrderResponse;
+import com.ecom.monolith.Mapper.OrderMapper;
+import com.ecom.monolith.model.ArchivedOrder;
+import com.ecom.monolith.model.Order;
+import com.ecom.monolith.repositories.ArchivedOrderRepository;
+import com.ecom.monolith.repositories.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+public class OrderArchiveServiceImpl implements OrderArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderArchiveServiceImpl.class);
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final OrderMapper orderMapper;
+    private final ObjectMapper objectMapper;
+
+    public OrderArchiveServiceImpl(OrderRepository orderRepository, ArchivedOrderRepository archivedOrderRepository,
+                                   OrderMapper orderMapper, ObjectMapper objectMapper) {
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.orderMapper = orderMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Moves up to {@code batchSize} of the oldest orders created before {@code cutoff} into the archive, in one
+     * transaction. Returns the number of orders moved; fewer than {@code batchSize} means none are left.
+     */
+    @Override
+    @Transactional
+    public int archiveOrdersCreatedBefore(LocalDateTime cutoff, int batchSize) {
+        List<Long> ids = orderRepository.findIdsCreatedBefore(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime archivedAt = LocalDateTime.now();
+        List<ArchivedOrder> archived = orderRepository.findAllByIdIn(ids).stream()
+                .map(order -> toArchive(order, archivedAt))
+                .toList();
+        archivedOrderRepository.saveAll(archived);
+        orderRepository.deleteItemsByOrderIdIn(ids);
+        orderRepository.deleteAllByIdIn(ids);
+        logger.debug("Archived {} orders created before {}", ids.size(), cutoff);
+        return ids.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<OrderResponse> findArchivedOrder(Long userId, Long orderId) {
+        return archivedOrderRepository.findByIdAndUserId(orderId, userId)
+                .map(archivedOrder -> decode(archivedOrder.getPayload()));
+    }
+
+    private ArchivedOrder toArchive(Order order, LocalDateTime archivedAt) {
+        ArchivedOrder archivedOrder = new ArchivedOrder();
+        archivedOrder.setId(order.getId());
+        archivedOrder.setUserId(order.getUsers().getId());
+        archivedOrder.setCreatedAt(order.getCreatedAt());
+        archivedOrder.setArchivedAt(archivedAt);
+        archivedOrder.setPayload(encode(orderMapper.toDto(order)));
+        return archivedOrder;
+    }
+
+    private byte[] encode(OrderResponse order) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, order);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not encode order " + order.getId(), ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private OrderResponse decode(byte[] payload) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(gzip, OrderResponse.class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not decode archived order", ex);
+        }
+    }
+}
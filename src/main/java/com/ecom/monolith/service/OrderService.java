@@ -6,4 +6,6 @@ import com.ecom.monolith.Dto.OrderResponse;
 public interface OrderService {
     OrderResponse placeOrder(String userId);
 
+    OrderResponse getOrder(String userId, Long orderId);
+
 }
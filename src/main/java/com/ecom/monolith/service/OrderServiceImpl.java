@@ -10,9 +10,11 @@ import com.ecom.monolith.repositories.UsersRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -24,16 +26,24 @@ public class OrderServiceImpl implements OrderService {
     private final UsersRepository usersRepository;
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
+    private final StockService stockService;
+    private final StockReservationService stockReservationService;
+    private final OrderArchiveService orderArchiveService;
 
     public OrderServiceImpl(CartItemRepository cartItemRepository, UsersRepository usersRepository,
-                            OrderRepository orderRepository, OrderMapper orderMapper) {
+                            OrderRepository orderRepository, OrderMapper orderMapper, StockService stockService,
+                            StockReservationService stockReservationService, OrderArchiveService orderArchiveService) {
         this.cartItemRepository = cartItemRepository;
         this.usersRepository = usersRepository;
         this.orderRepository = orderRepository;
         this.orderMapper = orderMapper;
+        this.stockService = stockService;
+        this.stockReservationService = stockReservationService;
+        this.orderArchiveService = orderArchiveService;
     }
 
     @Override
+    @Transactional
     public OrderResponse placeOrder(String userId) {
         logger.info("Placing order for userId={}", userId);
 
@@ -49,6 +59,11 @@ public class OrderServiceImpl implements OrderService {
             throw new ResourceNotFound("User doesn't have any items in cart");
         }
 
+        // Lock rows in product id order so concurrent orders for overlapping products cannot deadlock
+        cartItems.stream()
+                .sorted(Comparator.comparing(cartItem -> cartItem.getProduct().getId()))
+                .forEach(cartItem -> stockService.decrementStock(cartItem.getProduct(), cartItem.getQuantity()));
+
         List<OrderItem> orderItemList = new ArrayList<>();
         Order order = new Order();
         order.setUsers(users);
@@ -70,10 +85,23 @@ public class OrderServiceImpl implements OrderService {
 
         Order placedOrder = orderRepository.save(order);
         cartItemRepository.deleteAll(cartItems);
+        stockReservationService.convertToSale(userId, cartItems);
 
         logger.info("Order placed successfully for userId={}, orderId={}, total={}",
                 userId, placedOrder.getId(), placedOrder.getTotalAmount());
 
         return orderMapper.toDto(placedOrder);
     }
+
+    @Override
+    // Not read-only: the replica may not have an order placed a moment ago, and the fallback would turn that into a 404
+    @Transactional
+    public OrderResponse getOrder(String userId, Long orderId) {
+        Long ownerId = Long.valueOf(userId);
+        // Orders past the retention period live in the archive, so a miss on the live tables is not yet a 404
+        return orderRepository.findByIdAndUsersId(orderId, ownerId)
+                .map(orderMapper::toDto)
+                .or(() -> orderArchiveService.findArchivedOrder(ownerId, orderId))
+                .orElseThrow(() -> new ResourceNotFound("Order does not exist with id: " + orderId));
+    }
 }
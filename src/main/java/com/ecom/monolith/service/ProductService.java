@@ -1,6 +1,7 @@
 package com.ecom.monolith.service;
 
 import com.ecom.monolith.Dto.ProductDto;
+import com.ecom.monolith.Dto.ProductLookupResponse;
 
 import java.util.List;
 
@@ -15,5 +16,9 @@ public interface ProductService {
 
     ProductDto findById(Long id);
 
+    ProductLookupResponse findByIds(List<Long> ids);
+
     List<ProductDto> findByKeyword(String keyword);
+
+    ProductDto shardStock(Long id, int shards);
 }
@@ -1,15 +1,22 @@
 package com.ecom.monolith.service;
 
 import com.ecom.monolith.Dto.ProductDto;
+import com.ecom.monolith.Dto.ProductLookupResponse;
 import com.ecom.monolith.Mapper.ProductMapper;
+import com.ecom.monolith.catalog.ProductChangedEvent;
 import com.ecom.monolith.exception.ResourceNotFound;
 import com.ecom.monolith.model.Product;
 import com.ecom.monolith.repositories.ProductRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class ProductServiceImpl implements ProductService {
@@ -18,22 +25,32 @@ public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final StockService stockService;
+    private final StockReservationService stockReservationService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ProductServiceImpl(ProductRepository productRepository, ProductMapper productMapper) {
+    public ProductServiceImpl(ProductRepository productRepository, ProductMapper productMapper, StockService stockService,
+                              StockReservationService stockReservationService, ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
+        this.stockService = stockService;
+        this.stockReservationService = stockReservationService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public ProductDto addProduct(ProductDto productDto) {
         logger.info("Adding new product: {}", productDto.getName());
         Product product = productMapper.toEntity(productDto);
         Product savedProduct = productRepository.save(product);
         logger.info("Product added with ID: {}", savedProduct.getId());
+        eventPublisher.publishEvent(ProductChangedEvent.of(savedProduct));
         return productMapper.toDto(savedProduct);
     }
 
     @Override
+    @Transactional
     public ProductDto updateProduct(Long id, ProductDto productDto) {
         logger.info("Updating product ID: {}", id);
         return productRepository.findById(id).map(product -> {
@@ -43,8 +60,13 @@ public class ProductServiceImpl implements ProductService {
             product.setStockQuantity(productDto.getStockQuantity());
             product.setCategory(productDto.getCategory());
             product.setImageUrl(productDto.getImageUrl());
+            if (product.isStockSharded()) {
+                stockService.redistributeStock(product);
+            }
             Product updatedProduct = productRepository.save(product);
+            stockReservationService.refresh(updatedProduct);
             logger.info("Product updated: ID={}", updatedProduct.getId());
+            eventPublisher.publishEvent(ProductChangedEvent.of(updatedProduct));
             return productMapper.toDto(updatedProduct);
         }).orElseThrow(() -> {
             logger.warn("Product not found for update: ID={}", id);
@@ -53,12 +75,14 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @Transactional
     public String deleteProduct(Long id) {
         logger.info("Deleting (deactivating) product ID: {}", id);
         productRepository.findById(id).map(product -> {
             product.setActive(false);
             Product saved = productRepository.save(product);
             logger.info("Product deactivated: ID={}", saved.getId());
+            eventPublisher.publishEvent(ProductChangedEvent.of(saved));
             return saved;
         }).orElseThrow(() -> {
             logger.warn("Product not found for deletion: ID={}", id);
@@ -68,16 +92,17 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProductDto> getAllProducts() {
         logger.info("Fetching all active products");
-        return productRepository.findByActiveTrue().stream()
-                .map(productMapper::toDto).toList();
+        return toDtos(productRepository.findByActiveTrue());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ProductDto findById(Long id) {
         logger.info("Fetching product by ID: {}", id);
-        return productRepository.findById(id).map(productMapper::toDto)
+        return productRepository.findById(id).map(this::toDto)
                 .orElseThrow(() -> {
                     logger.warn("Product not found: ID={}", id);
                     return new ResourceNotFound("Resource not found with id: " + id);
@@ -85,9 +110,69 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public ProductLookupResponse findByIds(List<Long> ids) {
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        logger.info("Fetching {} products by ID", distinctIds.size());
+
+        List<Product> products = productRepository.findAllInRequestOrder(distinctIds);
+        List<Product> present = new ArrayList<>(distinctIds.size());
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < distinctIds.size(); i++) {
+            Product product = products.get(i);
+            if (product == null) {
+                missing.add(distinctIds.get(i));
+            } else {
+                present.add(product);
+            }
+        }
+        List<ProductDto> found = toDtos(present);
+        if (!missing.isEmpty()) {
+            logger.info("Products not found: IDs={}", missing);
+        }
+        return new ProductLookupResponse(found, missing);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<ProductDto> findByKeyword(String keyword) {
         logger.info("Searching products by keyword: {}", keyword);
-        return productRepository.findByNameContainingIgnoreCaseAndActiveTrue(keyword).stream()
-                .map(productMapper::toDto).toList();
+        return toDtos(productRepository.findByNameContainingIgnoreCaseAndActiveTrue(keyword));
+    }
+
+    @Override
+    @Transactional
+    public ProductDto shardStock(Long id, int shards) {
+        logger.info("Configuring {} stock shards for product ID: {}", shards, id);
+        Product product = productRepository.findById(id).orElseThrow(() -> {
+            logger.warn("Product not found for stock sharding: ID={}", id);
+            return new ResourceNotFound("Resource not found with id: " + id);
+        });
+        stockService.shardStock(product, shards);
+        return productMapper.toDto(product);
+    }
+
+    // stock_quantity of a sharded product is only refreshed on rebalance; report the live shard sum instead
+    private ProductDto toDto(Product product) {
+        ProductDto productDto = productMapper.toDto(product);
+        if (product.isStockSharded()) {
+            productDto.setStockQuantity(stockService.availableStock(product));
+        }
+        return productDto;
+    }
+
+    // Same as toDto, with the shard sums of all sharded products in the list read in one query
+    private List<ProductDto> toDtos(List<Product> products) {
+        List<Long> shardedIds = products.stream().filter(Product::isStockSharded).map(Product::getId).toList();
+        Map<Long, Integer> shardTotals = shardedIds.isEmpty() ? Map.of() : stockService.shardTotals(shardedIds);
+        List<ProductDto> productDtos = new ArrayList<>(products.size());
+        for (Product product : products) {
+            ProductDto productDto = productMapper.toDto(product);
+            if (product.isStockSharded()) {
+                productDto.setStockQuantity(shardTotals.getOrDefault(product.getId(), 0));
+            }
+            productDtos.add(productDto);
+        }
+        return productDtos;
     }
 }
@@ -0,0 +1,62 @@
+package com.ecom.monolith.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Hashed timer wheel: scheduling is O(1) and each sweep only visits the buckets whose tick has passed.
+ * Deadlines further out than one rotation stay in their bucket until the wheel comes round again.
+ */
+class ReservationTimerWheel<K> {
+
+    private record Timeout<K>(K key, long tick) {
+    }
+
+    private final long tickMillis;
+    private final ConcurrentLinkedQueue<Timeout<K>>[] buckets;
+
+    private long cursor;
+
+    @SuppressWarnings("unchecked")
+    ReservationTimerWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.buckets = new ConcurrentLinkedQueue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.cursor = startMillis / tickMillis;
+    }
+
+    // Shares the lock with advance: a tick read while advance is sweeping it would land in an already swept
+    // bucket and wait a full rotation
+    synchronized void schedule(K key, long deadlineMillis) {
+        long tick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), cursor);
+        buckets[bucket(tick)].add(new Timeout<>(key, tick));
+    }
+
+    synchronized List<K> advance(long nowMillis, int maxKeys) {
+        List<K> due = new ArrayList<>();
+        long target = nowMillis / tickMillis;
+        while (cursor <= target) {
+            Iterator<Timeout<K>> iterator = buckets[bucket(cursor)].iterator();
+            while (iterator.hasNext()) {
+                Timeout<K> timeout = iterator.next();
+                if (timeout.tick() <= cursor) {
+                    if (due.size() == maxKeys) {
+                        return due;
+                    }
+                    iterator.remove();
+                    due.add(timeout.key());
+                }
+            }
+            cursor++;
+        }
+        return due;
+    }
+
+    private int bucket(long tick) {
+        return (int) (tick % buckets.length);
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecom.monolith.service;
+
+import com.ecom.monolith.model.CartItem;
+import com.ecom.monolith.model.Product;
+
+import java.util.List;
+
+public interface StockReservationService {
+
+    boolean reserve(String userId, Product product, int quantity);
+
+    void release(String userId, Long productId, int quantity);
+
+    void releaseAll(String userId, Long productId);
+
+    void convertToSale(String userId, List<CartItem> cartItems);
+
+    void refresh(Product product);
+
+    int sweepExpired();
+}
@@ -0,0 +1,213 @@
+package com.ecom.monolith.service;
+
+import com.ecom.monolith.model.CartItem;
+import com.ecom.monolith.model.Product;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockReservationServiceImpl.class);
+
+    record HoldKey(String userId, Long productId) {
+    }
+
+    record Hold(int quantity, long expiresAt) {
+    }
+
+    // Units of one product the ledger accounts for, and the part of them not held by any cart
+    private static final class Ledger {
+
+        private final AtomicInteger stock;
+        private final AtomicInteger free;
+
+        private Ledger(int stock) {
+            this.stock = new AtomicInteger(stock);
+            this.free = new AtomicInteger(stock);
+        }
+    }
+
+    private final StockService stockService;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int batchSize;
+    private final ReservationTimerWheel<HoldKey> timerWheel;
+
+    // Seeded from the database the first time a product is reserved
+    private final Map<Long, Ledger> ledgers = new ConcurrentHashMap<>();
+    private final Map<HoldKey, Hold> holds = new ConcurrentHashMap<>();
+
+    @Autowired
+    public StockReservationServiceImpl(StockService stockService,
+                                       @Value("${app.inventory.reservation.ttl:15m}") Duration ttl,
+                                       @Value("${app.inventory.reservation.tick:1s}") Duration tick,
+                                       @Value("${app.inventory.reservation.wheel-size:512}") int wheelSize,
+                                       @Value("${app.inventory.reservation.batch-size:500}") int batchSize) {
+        this(stockService, Clock.systemUTC(), ttl, tick, wheelSize, batchSize);
+    }
+
+    StockReservationServiceImpl(StockService stockService, Clock clock, Duration ttl, Duration tick,
+                                int wheelSize, int batchSize) {
+        this.stockService = stockService;
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        this.batchSize = batchSize;
+        this.timerWheel = new ReservationTimerWheel<>(tick.toMillis(), wheelSize, clock.millis());
+    }
+
+    @Override
+    public boolean reserve(String userId, Product product, int quantity) {
+        AtomicInteger free = ledgers.computeIfAbsent(product.getId(), productId -> new Ledger(stockService.availableStock(product))).free;
+        int current;
+        do {
+            current = free.get();
+            if (current < quantity) {
+                logger.warn("Cannot reserve {} of productId={} for userId={}, available={}", quantity, product.getId(), userId, current);
+                return false;
+            }
+        } while (!free.compareAndSet(current, current - quantity));
+
+        HoldKey key = new HoldKey(userId, product.getId());
+        long expiresAt = clock.millis() + ttlMillis;
+        holds.merge(key, new Hold(quantity, expiresAt), (existing, added) -> new Hold(existing.quantity() + added.quantity(), expiresAt));
+        timerWheel.schedule(key, expiresAt);
+        // The ledger changes right away; if the cart write rolls back, so does the hold
+        afterRollback(() -> release(userId, product.getId(), quantity));
+
+        logger.debug("Reserved {} of productId={} for userId={} until {}", quantity, product.getId(), userId, expiresAt);
+        return true;
+    }
+
+    @Override
+    public void release(String userId, Long productId, int quantity) {
+        int[] released = new int[1];
+        holds.computeIfPresent(new HoldKey(userId, productId), (key, hold) -> {
+            released[0] = Math.min(quantity, hold.quantity());
+            int remaining = hold.quantity() - released[0];
+            return remaining > 0 ? new Hold(remaining, hold.expiresAt()) : null;
+        });
+        giveBack(productId, released[0]);
+    }
+
+    @Override
+    public void releaseAll(String userId, Long productId) {
+        Hold hold = holds.remove(new HoldKey(userId, productId));
+        if (hold != null) {
+            giveBack(productId, hold.quantity());
+        }
+    }
+
+    @Override
+    public void convertToSale(String userId, List<CartItem> cartItems) {
+        afterCommit(() -> cartItems.forEach(cartItem -> {
+            Long productId = cartItem.getProduct().getId();
+            Hold hold = holds.remove(new HoldKey(userId, productId));
+            int held = hold != null ? hold.quantity() : 0;
+            Ledger ledger = ledgers.get(productId);
+            if (ledger != null) {
+                ledger.stock.addAndGet(-cartItem.getQuantity());
+            }
+            // Expired holds were already given back, so the part of the sale they covered comes out of free stock
+            giveBack(productId, held - cartItem.getQuantity());
+        }));
+    }
+
+    @Override
+    public void refresh(Product product) {
+        afterCommit(() -> {
+            int stock = stockService.availableStock(product);
+            Ledger ledger = ledgers.putIfAbsent(product.getId(), new Ledger(stock));
+            if (ledger == null) {
+                return;
+            }
+            // Applied as a difference so reserves and releases running meanwhile on the same counter are kept
+            int delta = stock - ledger.stock.getAndSet(stock);
+            ledger.free.addAndGet(delta);
+            logger.info("Refreshed reservation ledger for productId={}, stock={}, delta={}", product.getId(), stock, delta);
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.inventory.reservation.tick:1s}")
+    public int sweepExpired() {
+        long now = clock.millis();
+        int released = 0;
+        List<HoldKey> due;
+        do {
+            due = timerWheel.advance(now, batchSize);
+            for (HoldKey key : due) {
+                Hold[] expired = new Hold[1];
+                // A hold topped up after it was scheduled carries a later deadline and stays
+                holds.computeIfPresent(key, (k, hold) -> {
+                    if (hold.expiresAt() > now) {
+                        return hold;
+                    }
+                    expired[0] = hold;
+                    return null;
+                });
+                if (expired[0] != null) {
+                    giveBack(key.productId(), expired[0].quantity());
+                    released++;
+                }
+            }
+        } while (due.size() == batchSize);
+
+        if (released > 0) {
+            logger.info("Released {} expired stock reservations", released);
+        }
+        return released;
+    }
+
+    int available(Long productId) {
+        Ledger ledger = ledgers.get(productId);
+        return ledger != null ? ledger.free.get() : 0;
+    }
+
+    private void giveBack(Long productId, int quantity) {
+        Ledger ledger = ledgers.get(productId);
+        if (ledger != null && quantity != 0) {
+            ledger.free.addAndGet(quantity);
+        }
+    }
+
+    private void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
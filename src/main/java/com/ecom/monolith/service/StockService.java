@@ -0,0 +1,22 @@
+package com.ecom.monolith.service;
+
+import com.ecom.monolith.model.Product;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface StockService {
+
+    void decrementStock(Product product, int quantity);
+
+    int availableStock(Product product);
+
+    /**
+     * Sums the shards of several sharded products in one query. Products without shard rows are left out.
+     */
+    Map<Long, Integer> shardTotals(Collection<Long> productIds);
+
+    void shardStock(Product product, int shards);
+
+    void redistributeStock(Product product);
+}
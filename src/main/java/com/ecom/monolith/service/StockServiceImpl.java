@@ -0,0 +1,147 @@
+package com.ecom.monolith.service;
+
+import com.ecom.monolith.catalog.ProductChangedEvent;
+import com.ecom.monolith.exception.InsufficientStock;
+import com.ecom.monolith.model.Product;
+import com.ecom.monolith.model.ProductStockShard;
+import com.ecom.monolith.repositories.ProductStockShardRepository;
+import com.ecom.monolith.repositories.ProductStockShardRepository.ShardTotal;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+@Service
+public class StockServiceImpl implements StockService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockServiceImpl.class);
+
+    private final ProductStockShardRepository shardRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public StockServiceImpl(ProductStockShardRepository shardRepository, EntityManager entityManager,
+                            ApplicationEventPublisher eventPublisher) {
+        this.shardRepository = shardRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional
+    public void decrementStock(Product product, int quantity) {
+        if (!product.isStockSharded()) {
+            decrementSingleRow(product, quantity);
+            return;
+        }
+
+        int shardNo = ThreadLocalRandom.current().nextInt(product.getStockShards());
+        if (shardRepository.decrement(product.getId(), shardNo, quantity) == 1) {
+            // stock_quantity is left alone so the product row does not become the hot spot again, and the new total is
+            // not read back either; listeners that need it sum the shards once per batch of changes
+            eventPublisher.publishEvent(new ProductChangedEvent(product.getId(), product.getPrice(), null, true));
+            return;
+        }
+
+        logger.info("Stock shard {} exhausted for productId={}, rebalancing", shardNo, product.getId());
+        List<ProductStockShard> shards = shardRepository.findAllForUpdate(product.getId());
+        // decrement() bypasses the persistence context, so shards loaded earlier in this transaction (another order
+        // of a group commit batch) still hold their old quantities; writing those back would undo its decrements
+        shards.forEach(entityManager::refresh);
+        int total = shards.stream().mapToInt(ProductStockShard::getQuantity).sum();
+        if (total < quantity) {
+            logger.warn("Insufficient stock for productId={}, requested={}, available={}", product.getId(), quantity, total);
+            throw new InsufficientStock("Insufficient stock for product id: " + product.getId());
+        }
+        distribute(shards, total - quantity);
+        product.setStockQuantity(total - quantity);
+        eventPublisher.publishEvent(ProductChangedEvent.stockOf(product));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int availableStock(Product product) {
+        if (!product.isStockSharded()) {
+            return product.getStockQuantity();
+        }
+        return (int) shardRepository.sumQuantity(product.getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> shardTotals(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return shardRepository.sumQuantityByProductIdIn(productIds).stream()
+                .collect(Collectors.toMap(ShardTotal::getProductId, total -> total.getQuantity().intValue()));
+    }
+
+    @Override
+    @Transactional
+    public void shardStock(Product product, int shards) {
+        int total = product.getStockQuantity();
+        if (product.isStockSharded()) {
+            total = shardRepository.findAllForUpdate(product.getId()).stream()
+                    .mapToInt(ProductStockShard::getQuantity).sum();
+            shardRepository.deleteByProductId(product.getId());
+        }
+
+        product.setStockQuantity(total);
+        eventPublisher.publishEvent(ProductChangedEvent.stockOf(product));
+        if (shards <= 1) {
+            product.setStockShards(null);
+            logger.info("Stock sharding disabled for productId={}, stock={}", product.getId(), total);
+            return;
+        }
+
+        product.setStockShards(shards);
+        List<ProductStockShard> rows = new ArrayList<>(shards);
+        for (int shardNo = 0; shardNo < shards; shardNo++) {
+            rows.add(new ProductStockShard(product, shardNo, 0));
+        }
+        distribute(rows, total);
+        shardRepository.saveAll(rows);
+        logger.info("Split stock for productId={} into {} shards, stock={}", product.getId(), shards, total);
+    }
+
+    @Override
+    @Transactional
+    public void redistributeStock(Product product) {
+        distribute(shardRepository.findAllForUpdate(product.getId()), product.getStockQuantity());
+    }
+
+    private void decrementSingleRow(Product product, int quantity) {
+        Product locked = entityManager.contains(product) ? product : entityManager.find(Product.class, product.getId());
+        entityManager.refresh(locked, LockModeType.PESSIMISTIC_WRITE);
+
+        if (locked.getStockQuantity() < quantity) {
+            logger.warn("Insufficient stock for productId={}, requested={}, available={}",
+                    product.getId(), quantity, locked.getStockQuantity());
+            throw new InsufficientStock("Insufficient stock for product id: " + product.getId());
+        }
+        locked.setStockQuantity(locked.getStockQuantity() - quantity);
+        eventPublisher.publishEvent(ProductChangedEvent.stockOf(locked));
+    }
+
+    private void distribute(List<ProductStockShard> shards, int total) {
+        if (shards.isEmpty()) {
+            return;
+        }
+        int base = total / shards.size();
+        int remainder = total % shards.size();
+        for (int i = 0; i < shards.size(); i++) {
+            shards.get(i).setQuantity(base + (i < remainder ? 1 : 0));
+        }
+    }
+}
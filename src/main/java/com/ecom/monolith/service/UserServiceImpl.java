@@ -8,6 +8,7 @@ import com.ecom.monolith.repositories.UsersRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -25,6 +26,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UsersDto> getUsers() {
         logger.info("Fetching all users");
         List<UsersDto> usersDtos = usersRepository.findAll()
@@ -34,6 +36,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public UsersDto addUser(UsersDto user) {
         logger.info("Adding new user with email={}", user.getEmail());
         Users userToSave = userMapper.toEntity(user);
@@ -43,6 +46,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UsersDto findById(Long id) {
         logger.info("Fetching user by ID={}", id);
         return usersRepository.findById(id)
@@ -54,6 +58,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public UsersDto updateUser(Long id, UsersDto users) {
         logger.info("Updating user ID={}", id);
         Users userUpdate = userMapper.toEntity(users);
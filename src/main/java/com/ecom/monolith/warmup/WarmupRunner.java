@@ -0,0 +1,163 @@
+package com.ecom.monolith.warmup;
+
+import com.ecom.monolith.Dto.OrderResponse;
+import com.ecom.monolith.Dto.ProductDto;
+import com.ecom.monolith.Mapper.OrderMapper;
+import com.ecom.monolith.Mapper.ProductMapper;
+import com.ecom.monolith.model.Order;
+import com.ecom.monolith.model.OrderItem;
+import com.ecom.monolith.model.OrderStatus;
+import com.ecom.monolith.model.Product;
+import com.ecom.monolith.repositories.ProductRepository;
+import com.ecom.monolith.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Warms caches and hot code paths before the first request. Spring Boot only switches readiness to
+ * ACCEPTING_TRAFFIC after all runners return, so the readiness probe stays down until this finishes or the budget runs out.
+ */
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private final ProductRepository productRepository;
+    private final ProductService productService;
+    private final ProductMapper productMapper;
+    private final OrderMapper orderMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionOperations readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Duration budget;
+    private final int topSellers;
+    private final int jitIterations;
+
+    private final AtomicInteger preloadedProducts = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+
+    public WarmupRunner(ProductRepository productRepository, ProductService productService, ProductMapper productMapper,
+                        OrderMapper orderMapper, ObjectMapper objectMapper, TransactionOperations readOnlyTransaction,
+                        MeterRegistry meterRegistry, Duration budget, int topSellers, int jitIterations) {
+        this.productRepository = productRepository;
+        this.productService = productService;
+        this.productMapper = productMapper;
+        this.orderMapper = orderMapper;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+        this.topSellers = topSellers;
+        this.jitIterations = jitIterations;
+        meterRegistry.gauge("app.warmup.products", preloadedProducts);
+        meterRegistry.gauge("app.warmup.completed", completed);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        long start = System.nanoTime();
+
+        List<Product> hotProducts = step("top-sellers", deadline, this::preloadTopSellers, List.of());
+        step("catalog", deadline, productService::getAllProducts, List.of());
+        Integer iterations = step("jit", deadline, () -> exerciseHotPaths(hotProducts, deadline), 0);
+
+        boolean withinBudget = System.nanoTime() - deadline < 0;
+        completed.set(withinBudget ? 1 : 0);
+        logger.info("Warm-up {} in {} ms: {} hot products preloaded, {} serialization rounds",
+                withinBudget ? "finished" : "stopped at budget", Duration.ofNanos(System.nanoTime() - start).toMillis(),
+                preloadedProducts.get(), iterations);
+    }
+
+    private List<Product> preloadTopSellers() {
+        return readOnlyTransaction.execute(status -> {
+            List<Long> ids = productRepository.findTopSellingIds(PageRequest.of(0, topSellers));
+            // Loading by id puts every row into the second-level entity cache
+            List<Product> products = productRepository.findAllById(ids);
+            preloadedProducts.set(products.size());
+            return products;
+        });
+    }
+
+    private int exerciseHotPaths(List<Product> hotProducts, long deadline) throws Exception {
+        List<Product> products = hotProducts.isEmpty() ? List.of(sampleProduct()) : hotProducts;
+        Order order = sampleOrder(products);
+        int round = 0;
+        while (round < jitIterations && System.nanoTime() - deadline < 0) {
+            List<ProductDto> dtos = new ArrayList<>(products.size());
+            for (Product product : products) {
+                dtos.add(productMapper.toDto(product));
+            }
+            byte[] json = objectMapper.writeValueAsBytes(dtos.get(round % dtos.size()));
+            objectMapper.readValue(json, ProductDto.class);
+            objectMapper.writeValueAsBytes(dtos);
+
+            OrderResponse orderResponse = orderMapper.toDto(order);
+            objectMapper.writeValueAsBytes(orderResponse);
+            round++;
+        }
+        return round;
+    }
+
+    private <T> T step(String name, long deadline, WarmupStep<T> step, T fallback) {
+        if (System.nanoTime() - deadline >= 0) {
+            logger.warn("Warm-up budget of {} used up, skipping {}", budget, name);
+            return fallback;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return step.run();
+        } catch (Exception ex) {
+            logger.warn("Warm-up step {} failed: {}", name, ex.toString());
+            return fallback;
+        } finally {
+            sample.stop(meterRegistry.timer("app.warmup.step", "step", name));
+        }
+    }
+
+    private static Product sampleProduct() {
+        Product product = new Product();
+        product.setId(0L);
+        product.setName("warm-up");
+        product.setDescription("warm-up");
+        product.setPrice(BigDecimal.ONE);
+        product.setStockQuantity(1);
+        product.setCategory("warm-up");
+        product.setActive(true);
+        return product;
+    }
+
+    private static Order sampleOrder(List<Product> products) {
+        Order order = new Order();
+        order.setId(0L);
+        order.setStatus(OrderStatus.ORDERED);
+        order.setTotalAmount(BigDecimal.ZERO);
+        for (Product product : products.subList(0, Math.min(5, products.size()))) {
+            OrderItem item = new OrderItem();
+            item.setProduct(product);
+            item.setQuantity(1);
+            item.setPrice(product.getPrice());
+            item.setOrder(order);
+            order.getItems().add(item);
+        }
+        return order;
+    }
+
+    @FunctionalInterface
+    interface WarmupStep<T> {
+
+        T run() throws Exception;
+    }
+}
@@ -0,0 +1,18 @@
+-- Tables and indexes for the order archival job. Production runs with ddl-auto: validate,
+-- so apply this before deploying the release that adds order_archive.
+
+create table if not exists order_archive (
+    id          bigint       not null primary key,
+    user_id     bigint       not null,
+    created_at  timestamp(6) not null,
+    archived_at timestamp(6) not null,
+    payload     bytea        not null
+);
+
+-- The payload is gzipped JSON already; keep TOAST from trying to compress it again
+alter table order_archive alter column payload set storage external;
+
+create index if not exists idx_order_archive_user_id on order_archive (user_id);
+
+-- Lets the job page through old orders; orders-partitioning.sql creates the same index on the partitioned table
+create index concurrently if not exists idx_orders_created_at on orders (created_at);
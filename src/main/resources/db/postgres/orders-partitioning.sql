@@ -0,0 +1,73 @@
+-- One-time migration of orders and order_item to monthly range partitions on created_at.
+-- Needs PostgreSQL 13 or later. Run it with the application stopped, then start the application with
+-- ORDERS_PARTITIONING_ENABLED=true so OrderPartitionManager keeps creating partitions ahead of time
+-- and drops the ones the archival job has emptied.
+
+begin;
+
+alter table order_item rename to order_item_unpartitioned;
+alter table orders rename to orders_unpartitioned;
+
+-- The primary key of a partitioned table has to include the partition key
+create table orders (
+    id           bigint       generated by default as identity,
+    user_id      bigint       not null references users (id),
+    total_amount numeric(38, 2),
+    status       varchar(255) check (status in ('ORDERED', 'PENDING', 'CANCELLED', 'REFUNDED', 'RETURNED')),
+    created_at   timestamp(6) not null,
+    updated_at   timestamp(6),
+    primary key (id, created_at)
+) partition by range (created_at);
+
+-- The entity does not map created_at here: the default stamps each item in the same transaction that writes its
+-- order, so items land in their order's month (an order placed in the last moments of a month may be one partition
+-- off, which only delays dropping that partition). order_id cannot reference orders any more, because id alone is
+-- not unique on the partitioned table; the application always writes and deletes an order with its items.
+create table order_item (
+    id         bigint       generated by default as identity,
+    order_id   bigint       not null,
+    product_id bigint       not null references product (id),
+    quantity   integer,
+    price      numeric(38, 2),
+    created_at timestamp(6) not null default localtimestamp,
+    primary key (id, created_at)
+) partition by range (created_at);
+
+create index idx_orders_created_at on orders (created_at);
+create index idx_orders_user_id on orders (user_id);
+create index idx_order_item_order_id on order_item (order_id);
+
+-- Catches rows outside every monthly partition instead of failing the insert
+create table orders_default partition of orders default;
+create table order_item_default partition of order_item default;
+
+do $$
+declare
+    month date := date_trunc('month', coalesce((select min(created_at) from orders_unpartitioned), localtimestamp));
+begin
+    while month <= date_trunc('month', localtimestamp) + interval '3 months' loop
+        execute format('create table orders_p%s partition of orders for values from (%L) to (%L)',
+                       to_char(month, 'YYYYMM'), month, month + interval '1 month');
+        execute format('create table order_item_p%s partition of order_item for values from (%L) to (%L)',
+                       to_char(month, 'YYYYMM'), month, month + interval '1 month');
+        month := month + interval '1 month';
+    end loop;
+end $$;
+
+insert into orders (id, user_id, total_amount, status, created_at, updated_at)
+select id, user_id, total_amount, status, coalesce(created_at, updated_at, localtimestamp), updated_at
+from orders_unpartitioned;
+
+insert into order_item (id, order_id, product_id, quantity, price, created_at)
+select item.id, item.order_id, item.product_id, item.quantity, item.price, orders.created_at
+from order_item_unpartitioned item
+join orders on orders.id = item.order_id;
+
+select setval(pg_get_serial_sequence('orders', 'id'), coalesce(max(id), 0) + 1, false) from orders;
+select setval(pg_get_serial_sequence('order_item', 'id'), coalesce(max(id), 0) + 1, false) from order_item;
+
+commit;
+
+-- After checking the row counts against the new tables:
+-- drop table order_item_unpartitioned;
+-- drop table orders_unpartitioned;
@@ -0,0 +1,14 @@
+-- Schema for sharded product stock (PUT /api/products/{id}/stock-shards). Production runs with ddl-auto: validate,
+-- so apply this before deploying the release that adds ProductStockShard.
+
+alter table product add column if not exists stock_shards integer;
+
+create table if not exists product_stock_shard (
+    id         bigint  generated by default as identity primary key,
+    product_id bigint  not null references product (id),
+    shard_no   integer not null,
+    quantity   integer not null
+);
+
+-- One row per shard; also serves the per-product lookups of the decrement, sum and rebalance queries
+create unique index if not exists uk_product_stock_shard_product_shard on product_stock_shard (product_id, shard_no);
@@ -1,6 +1,9 @@
 package com.ecom.monolith;
 
+import com.ecom.monolith.jdbc.QueryCounter;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.DynamicPropertyRegistry;
@@ -25,6 +28,9 @@ public abstract class BaseIntegrationTest {
                     .withUsername("ecom_user")
                     .withPassword("ecom_pass123");
 
+    @Autowired
+    protected QueryCounter queryCounter;
+
     @BeforeAll
     static void startContainer() {
         if (!POSTGRES.isRunning()) {
@@ -33,6 +39,11 @@ public abstract class BaseIntegrationTest {
         }
     }
 
+    @BeforeEach
+    void resetQueryCounter() {
+        queryCounter.reset();
+    }
+
     @DynamicPropertySource
     static void overrideProps(DynamicPropertyRegistry registry) {
         registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
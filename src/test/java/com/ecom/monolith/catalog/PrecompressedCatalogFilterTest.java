@@ -0,0 +1,166 @@
+package com.ecom.monolith.catalog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the PrecompressedCatalogFilter class.
+ * This class verifies that catalog bodies are gzipped once per catalog version and Accept header, and which requests bypass the cache.
+ */
+public class PrecompressedCatalogFilterTest {
+
+    private static final String BODY = "[" + "{\"name\":\"iphone\",\"category\":\"Electronic\"},".repeat(100) + "{}]";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CatalogVersion catalogVersion = new CatalogVersion(Duration.ofSeconds(1), clock::get);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PrecompressedCatalogFilter filter = new PrecompressedCatalogFilter(
+            catalogVersion, 1024, Deflater.BEST_COMPRESSION, 8, Duration.ofMinutes(5), meterRegistry);
+    private final AtomicInteger handlerCalls = new AtomicInteger();
+
+    @Test
+    @DisplayName("Verify the catalog is compressed once and later requests are served from the cached bytes")
+    void doFilter_sameVersion_servesCachedGzip() throws Exception {
+        MockHttpServletResponse first = perform(request(MediaType.APPLICATION_JSON_VALUE), BODY);
+        MockHttpServletResponse second = perform(request(MediaType.APPLICATION_JSON_VALUE), BODY);
+
+        assertThat(handlerCalls).hasValue(1);
+        for (MockHttpServletResponse response : new MockHttpServletResponse[]{first, second}) {
+            assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+            assertThat(response.getContentLength()).isLessThan(BODY.length() / 4);
+            assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(BODY);
+        }
+        assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+        assertThat(meterRegistry.get("app.catalog.precompressed").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Verify a cache hit returns the same headers as the miss that filled it")
+    void doFilter_hit_replaysHandlerHeaders() throws Exception {
+        MockHttpServletResponse first = perform(request(MediaType.APPLICATION_JSON_VALUE), BODY);
+        MockHttpServletResponse second = perform(request(MediaType.APPLICATION_JSON_VALUE), BODY);
+
+        assertThat(handlerCalls).hasValue(1);
+        for (MockHttpServletResponse response : new MockHttpServletResponse[]{first, second}) {
+            assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=60");
+            assertThat(response.getHeaders(HttpHeaders.VARY)).containsExactly(HttpHeaders.ACCEPT_ENCODING + ", " + HttpHeaders.ACCEPT);
+        }
+        assertThat(second.getHeaderNames()).containsExactlyInAnyOrderElementsOf(first.getHeaderNames());
+    }
+
+    @Test
+    @DisplayName("Verify a product change makes the next request render and compress the catalog again")
+    void doFilter_productChanged_recompresses() throws Exception {
+        perform(request(MediaType.APPLICATION_JSON_VALUE), BODY);
+        catalogVersion.onProductChanged(new ProductChangedEvent(1L, BigDecimal.TEN, 5));
+        MockHttpServletResponse response = perform(request(MediaType.APPLICATION_JSON_VALUE), BODY.replace("iphone", "pixel"));
+
+        assertThat(handlerCalls).hasValue(2);
+        assertThat(gunzip(response.getContentAsByteArray())).contains("pixel");
+    }
+
+    @Test
+    @DisplayName("Verify stock changes from a steady order stream move the version at most once per staleness window")
+    void doFilter_ordersPlaced_keepsHitRate() throws Exception {
+        perform(request(MediaType.APPLICATION_JSON_VALUE), BODY);
+
+        // 100 orders a second for ten seconds, one catalog read after each
+        for (int i = 0; i < 1000; i++) {
+            clock.addAndGet(Duration.ofMillis(10).toNanos());
+            catalogVersion.onProductChanged(new ProductChangedEvent(1L, BigDecimal.TEN, 5, true));
+            perform(request(MediaType.APPLICATION_JSON_VALUE), BODY);
+        }
+
+        double hits = meterRegistry.get("app.catalog.precompressed").tag("result", "hit").counter().count();
+        assertThat(handlerCalls.get()).isLessThanOrEqualTo(12);
+        assertThat(hits / 1001).isGreaterThan(0.98);
+    }
+
+    @Test
+    @DisplayName("Verify the first stock change after a quiet period makes the next request recompress")
+    void doFilter_stockChangedAfterQuietPeriod_recompresses() throws Exception {
+        perform(request(MediaType.APPLICATION_JSON_VALUE), BODY);
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        catalogVersion.onProductChanged(new ProductChangedEvent(1L, BigDecimal.TEN, 4, true));
+        perform(request(MediaType.APPLICATION_JSON_VALUE), BODY);
+
+        assertThat(handlerCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Verify each Accept header keeps its own compressed representation")
+    void doFilter_differentAccept_separateEntries() throws Exception {
+        perform(request(MediaType.APPLICATION_JSON_VALUE), BODY);
+        perform(request(MediaType.APPLICATION_CBOR_VALUE), BODY);
+        perform(request(MediaType.APPLICATION_CBOR_VALUE), BODY);
+
+        assertThat(handlerCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Verify small bodies, clients without gzip and filtered queries are passed through uncompressed")
+    void doFilter_bypass() throws Exception {
+        MockHttpServletResponse small = perform(request(MediaType.APPLICATION_JSON_VALUE), "[]");
+
+        MockHttpServletRequest identity = request(MediaType.APPLICATION_JSON_VALUE);
+        identity.removeHeader(HttpHeaders.ACCEPT_ENCODING);
+        identity.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity");
+        MockHttpServletResponse plain = perform(identity, BODY);
+
+        MockHttpServletRequest query = request(MediaType.APPLICATION_JSON_VALUE);
+        query.setQueryString("ids=1,2");
+        MockHttpServletResponse filtered = perform(query, BODY);
+
+        assertThat(small.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(small.getContentAsString()).isEqualTo("[]");
+        assertThat(plain.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(plain.getContentAsString()).isEqualTo(BODY);
+        assertThat(filtered.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(handlerCalls).hasValue(3);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, String body) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain handler = (req, res) -> {
+            handlerCalls.incrementAndGet();
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            ((HttpServletResponse) res).setHeader(HttpHeaders.CACHE_CONTROL, "max-age=60");
+            res.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+        filter.doFilter(request, response, handler);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.addHeader(HttpHeaders.ACCEPT, accept);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br");
+        return request;
+    }
+
+    private static String gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
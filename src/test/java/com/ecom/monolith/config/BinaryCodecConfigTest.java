@@ -0,0 +1,95 @@
+package com.ecom.monolith.config;
+
+import com.ecom.monolith.Dto.ProductDto;
+import com.ecom.monolith.controller.ProductController;
+import com.ecom.monolith.service.ProductService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for the BinaryCodecConfig class.
+ * This class uses Spring's WebMvcTest to verify that the Accept header selects JSON, CBOR or Smile for the same DTOs.
+ */
+@WebMvcTest(ProductController.class)
+@Import(BinaryCodecConfig.class)
+public class BinaryCodecConfigTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ProductService productService;
+
+    @Test
+    @DisplayName("Should return HTTP 200 with a CBOR body when the client accepts application/cbor")
+    void getAllProducts_cbor() throws Exception {
+        when(productService.getAllProducts()).thenReturn(List.of(productDto()));
+
+        byte[] body = mockMvc.perform(get("/api/products").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(decode(new CBORMapper(), body)).containsExactly(productDto());
+    }
+
+    @Test
+    @DisplayName("Should return HTTP 200 with a Smile body when the client accepts application/x-jackson-smile")
+    void getAllProducts_smile() throws Exception {
+        when(productService.getAllProducts()).thenReturn(List.of(productDto()));
+
+        byte[] body = mockMvc.perform(get("/api/products").accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(decode(new SmileMapper(), body)).containsExactly(productDto());
+    }
+
+    @Test
+    @DisplayName("Should return HTTP 200 with JSON when the client accepts anything")
+    void getAllProducts_defaultJson() throws Exception {
+        when(productService.getAllProducts()).thenReturn(List.of(productDto()));
+
+        mockMvc.perform(get("/api/products").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    private static List<ProductDto> decode(ObjectMapper mapper, byte[] body) throws Exception {
+        return mapper.readValue(body, new TypeReference<>() {
+        });
+    }
+
+    private static ProductDto productDto() {
+        ProductDto productDto = new ProductDto();
+        productDto.setId(1L);
+        productDto.setName("iphone");
+        productDto.setDescription("latest iphone");
+        productDto.setPrice(BigDecimal.valueOf(1500));
+        productDto.setStockQuantity(10);
+        productDto.setCategory("Electronic");
+        return productDto;
+    }
+}
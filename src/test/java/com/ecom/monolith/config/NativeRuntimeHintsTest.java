@@ -0,0 +1,51 @@
+package com.ecom.monolith.config;
+
+import com.ecom.monolith.Dto.ProductDto;
+import com.ecom.monolith.exception.ErrorResponse;
+import com.ecom.monolith.logging.SamplingTurboFilter;
+import com.ecom.monolith.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the NativeRuntimeHints class.
+ * This class verifies the reflection and resource hints registered for the native image.
+ */
+public class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeRuntimeHintsTest() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Verify the cache and logging configuration files are registered as resources")
+    void registerHints_resources() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("ehcache.xml")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("logback-spring.xml")).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Verify DTO accessors are registered for JSON binding")
+    void registerHints_jsonTypes() throws NoSuchMethodException {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ProductDto.class.getMethod("getName"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ErrorResponse.class.getMethod("getErrorCode"))).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Verify entities, mapper implementations and name-loaded classes are registered for reflection")
+    void registerHints_reflection() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Product.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("com.ecom.monolith.Mapper.ProductMapperImpl"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(SamplingTurboFilter.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(hints);
+    }
+}
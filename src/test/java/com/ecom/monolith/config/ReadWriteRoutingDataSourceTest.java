@@ -0,0 +1,95 @@
+package com.ecom.monolith.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the ReadWriteRoutingDataSource class.
+ * This class verifies routing between two H2 databases standing in for the primary and the replica.
+ */
+public class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+    }
+
+    @Test
+    @DisplayName("Verify read-only transactions are routed to the replica")
+    void readOnlyTransaction_routedToReplica() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT 0", Duration.ofSeconds(5));
+        monitor.checkLag();
+
+        assertThat(monitor.isReplicaAvailable()).isTrue();
+        assertThat(currentDatabase(routingDataSource(monitor), true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Verify read-write transactions are routed to the primary")
+    void readWriteTransaction_routedToPrimary() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT 0", Duration.ofSeconds(5));
+        monitor.checkLag();
+
+        assertThat(currentDatabase(routingDataSource(monitor), false)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Verify read-only transactions fall back to the primary when the replica lags")
+    void readOnlyTransaction_replicaLagging_routedToPrimary() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT 30", Duration.ofSeconds(5));
+        monitor.checkLag();
+
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+        assertThat(currentDatabase(routingDataSource(monitor), true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Verify read-only transactions fall back to the primary when the lag check fails")
+    void readOnlyTransaction_lagCheckFails_routedToPrimary() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT lag FROM missing_table", Duration.ofSeconds(5));
+        monitor.checkLag();
+
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+        assertThat(currentDatabase(routingDataSource(monitor), true)).isEqualTo("primary");
+    }
+
+    private DataSource routingDataSource(ReplicaLagMonitor monitor) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, monitor);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private String currentDatabase(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    private DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM marker");
+        jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ecom.monolith.config;
+
+import com.ecom.monolith.model.Product;
+import com.ecom.monolith.repositories.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the ReplicaAwareTransactionManager class.
+ * This class verifies that reads routed to the replica never populate the second-level cache, while other reads do.
+ */
+@SpringBootTest
+public class ReplicaAwareTransactionManagerTest {
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    DataSource dataSource;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(product()).getId();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Verify a read-only transaction on the replica reads the product without caching it")
+    void readOnly_replicaAvailable_doesNotPopulateCache() {
+        TransactionTemplate readOnly = transaction(monitor("SELECT 0"), true);
+
+        readOnly.executeWithoutResult(status -> assertThat(productRepository.findById(productId)).isPresent());
+
+        assertThat(entityManagerFactory.getCache().contains(Product.class, productId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Verify read-write transactions and reads that fall back to the primary still populate the cache")
+    void primaryReads_populateCache() {
+        transaction(monitor("SELECT 0"), false)
+                .executeWithoutResult(status -> productRepository.findById(productId));
+        assertThat(entityManagerFactory.getCache().contains(Product.class, productId)).isTrue();
+
+        entityManagerFactory.getCache().evictAll();
+        transaction(monitor("SELECT 30"), true)
+                .executeWithoutResult(status -> productRepository.findById(productId));
+        assertThat(entityManagerFactory.getCache().contains(Product.class, productId)).isTrue();
+    }
+
+    private TransactionTemplate transaction(ReplicaLagMonitor monitor, boolean readOnly) {
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new ReplicaAwareTransactionManager(entityManagerFactory, monitor));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate;
+    }
+
+    private ReplicaLagMonitor monitor(String lagQuery) {
+        // The test database stands in for the replica; only the reported lag matters here
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(dataSource, lagQuery, Duration.ofSeconds(5));
+        monitor.checkLag();
+        return monitor;
+    }
+
+    private static Product product() {
+        Product product = new Product();
+        product.setName("iphone 15");
+        product.setDescription("iphone 15");
+        product.setPrice(BigDecimal.valueOf(100));
+        product.setActive(true);
+        product.setStockQuantity(100);
+        product.setCategory("Electronic");
+        return product;
+    }
+}
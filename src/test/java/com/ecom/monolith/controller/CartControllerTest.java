@@ -1,5 +1,7 @@
 package com.ecom.monolith.controller;
 
+import com.ecom.monolith.Dto.CartBatchRequest;
+import com.ecom.monolith.Dto.CartLineResult;
 import com.ecom.monolith.Dto.CartRequest;
 import com.ecom.monolith.Dto.CartResponse;
 import com.ecom.monolith.service.CartItemService;
@@ -14,7 +16,9 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -128,6 +132,47 @@ public class CartControllerTest {
         verify(cartItemService).getCartItems("1L");
     }
 
+    @Test
+    @DisplayName("Should return HTTP 200 with one result per line when a batch of items is added")
+    void addItems_ok() throws Exception {
+        CartBatchRequest batch = new CartBatchRequest();
+        batch.setItems(List.of(createCartRequest("1", 2), createCartRequest("2", 1)));
+
+        when(cartItemService.addCartItems("1L", batch.getItems())).thenReturn(List.of(
+                new CartLineResult("1", 2, CartLineResult.Status.ADDED),
+                new CartLineResult("2", 1, CartLineResult.Status.OUT_OF_STOCK)));
+
+        mockMvc.perform(post("/api/cart/batch")
+                        .header("X-User-ID", "1L")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].productId").value("1"))
+                .andExpect(jsonPath("$[0].status").value("ADDED"))
+                .andExpect(jsonPath("$[1].status").value("OUT_OF_STOCK"));
+
+        verify(cartItemService).addCartItems("1L", batch.getItems());
+    }
+
+    @Test
+    @DisplayName("Should return HTTP 400 when a batch is empty or has an invalid line")
+    void addItems_invalid() throws Exception {
+        CartBatchRequest empty = new CartBatchRequest();
+        empty.setItems(List.of());
+        CartBatchRequest invalidLine = new CartBatchRequest();
+        invalidLine.setItems(List.of(createCartRequest("1", 0)));
+
+        for (CartBatchRequest batch : List.of(empty, invalidLine)) {
+            mockMvc.perform(post("/api/cart/batch")
+                            .header("X-User-ID", "1L")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(batch)))
+                    .andExpect(status().isBadRequest());
+        }
+
+        verifyNoInteractions(cartItemService);
+    }
+
     private CartRequest createCartRequest(String productId, int quantity) {
         CartRequest cartRequest = new CartRequest();
         cartRequest.setProductId(productId);
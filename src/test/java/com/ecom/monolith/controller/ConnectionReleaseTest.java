@@ -0,0 +1,179 @@
+package com.ecom.monolith.controller;
+
+import com.ecom.monolith.Dto.CartRequest;
+import com.ecom.monolith.model.Product;
+import com.ecom.monolith.model.Users;
+import com.ecom.monolith.repositories.CartItemRepository;
+import com.ecom.monolith.repositories.OrderRepository;
+import com.ecom.monolith.repositories.ProductRepository;
+import com.ecom.monolith.repositories.UsersRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Regression tests for transaction boundaries.
+ * This class verifies that no JDBC connection is held while the response body is rendered.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(ConnectionReleaseTest.ActiveConnectionsProbe.class)
+public class ConnectionReleaseTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    ApplicationContext applicationContext;
+
+    @Autowired
+    ActiveConnectionsProbe probe;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    UsersRepository usersRepository;
+
+    @Autowired
+    CartItemRepository cartItemRepository;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    private Product product;
+
+    private Users user;
+
+    @BeforeEach
+    void setUp() {
+        product = productRepository.save(product("iphone 15", BigDecimal.valueOf(1300), 100));
+        user = usersRepository.save(user("Jane", "Smith", "jane@example.com"));
+        probe.observed.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        cartItemRepository.deleteAll();
+        usersRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Verify open-session-in-view is disabled")
+    void openInView_disabled() {
+        assertThat(applicationContext.getBeansOfType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verify read endpoints release their connection before the response is rendered")
+    void readEndpoints_releaseConnectionBeforeRendering() throws Exception {
+        mockMvc.perform(get("/api/products")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/products/" + product.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/api/products/search").param("keyword", "iphone")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/users")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/users/" + user.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/api/cart").header("X-User-ID", String.valueOf(user.getId()))).andExpect(status().isOk());
+
+        assertThat(probe.observed).hasSize(6).containsOnly(0);
+    }
+
+    @Test
+    @DisplayName("Verify write endpoints release their connection before the response is rendered")
+    void writeEndpoints_releaseConnectionBeforeRendering() throws Exception {
+        CartRequest cartRequest = new CartRequest();
+        cartRequest.setProductId(String.valueOf(product.getId()));
+        cartRequest.setQuantity(1);
+
+        mockMvc.perform(post("/api/cart")
+                        .header("X-User-ID", String.valueOf(user.getId()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(cartRequest)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/orders").header("X-User-ID", String.valueOf(user.getId())))
+                .andExpect(status().isCreated());
+
+        assertThat(probe.observed).hasSize(2).containsOnly(0);
+    }
+
+    private Product product(String name, BigDecimal price, int stock) {
+        Product product = new Product();
+        product.setName(name);
+        product.setDescription(name);
+        product.setPrice(price);
+        product.setActive(true);
+        product.setStockQuantity(stock);
+        product.setCategory("Electronic");
+        return product;
+    }
+
+    private Users user(String firstName, String lastName, String email) {
+        Users user = new Users();
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEmail(email);
+        user.setPhone("1234567890");
+        return user;
+    }
+
+    @ControllerAdvice
+    static class ActiveConnectionsProbe implements ResponseBodyAdvice<Object> {
+
+        final List<Integer> observed = new CopyOnWriteArrayList<>();
+
+        private final DataSource dataSource;
+
+        ActiveConnectionsProbe(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+            return true;
+        }
+
+        @Override
+        public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                      ServerHttpRequest request, ServerHttpResponse response) {
+            try {
+                observed.add(dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections());
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+            return body;
+        }
+    }
+}
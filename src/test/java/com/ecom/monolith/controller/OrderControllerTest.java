@@ -2,6 +2,7 @@ package com.ecom.monolith.controller;
 
 import com.ecom.monolith.Dto.OrderItemResponse;
 import com.ecom.monolith.Dto.OrderResponse;
+import com.ecom.monolith.exception.ResourceNotFound;
 import com.ecom.monolith.model.OrderStatus;
 import com.ecom.monolith.service.OrderService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,6 +19,7 @@ import java.util.List;
 
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -63,6 +65,27 @@ public class OrderControllerTest {
         verify(orderService).placeOrder(Long.toString(userId));
     }
 
+    @Test
+    @DisplayName("Should return HTTP 200 with the order, live or archived")
+    void getOrder_ok() throws Exception {
+        OrderResponse orderResponse = createOrderResponse(7L, BigDecimal.valueOf(50.00), List.of());
+        when(orderService.getOrder("1", 7L)).thenReturn(orderResponse);
+
+        mockMvc.perform(get("/api/orders/7").header("X-User-ID", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(7))
+                .andExpect(jsonPath("$.status").value(OrderStatus.ORDERED.toString()));
+    }
+
+    @Test
+    @DisplayName("Should return HTTP 404 when the order does not exist")
+    void getOrder_notFound() throws Exception {
+        when(orderService.getOrder("1", 7L)).thenThrow(new ResourceNotFound("Order does not exist with id: 7"));
+
+        mockMvc.perform(get("/api/orders/7").header("X-User-ID", "1"))
+                .andExpect(status().isNotFound());
+    }
+
     private OrderResponse createOrderResponse(Long id, BigDecimal totalAmount, List<OrderItemResponse> items) {
         OrderResponse orderResponse = new OrderResponse();
         orderResponse.setId(id);
@@ -1,6 +1,8 @@
 package com.ecom.monolith.controller;
 
 import com.ecom.monolith.Dto.ProductDto;
+import com.ecom.monolith.Dto.ProductLookupRequest;
+import com.ecom.monolith.Dto.ProductLookupResponse;
 import com.ecom.monolith.service.ProductService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +15,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.LongStream;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -145,6 +148,85 @@ public class ProductControllerTest {
         verifyNoMoreInteractions(productService);
     }
 
+    @Test
+    @DisplayName("Should return HTTP 200 when product stock is split into shards")
+    void shardStock_ok() throws Exception {
+        ProductDto productDto = productDto(1L, "iphone 15", "iphone 15", BigDecimal.valueOf(1300), 10);
+
+        when(productService.shardStock(1L, 8)).thenReturn(productDto);
+
+        mockMvc.perform(put("/api/products/{id}/stock-shards", 1L).param("count", "8"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L));
+
+        verify(productService).shardStock(1L, 8);
+        verifyNoMoreInteractions(productService);
+    }
+
+    @Test
+    @DisplayName("Should return HTTP 400 when the shard count is out of range")
+    void shardStock_countOutOfRange() throws Exception {
+        mockMvc.perform(put("/api/products/{id}/stock-shards", 1L).param("count", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+        mockMvc.perform(put("/api/products/{id}/stock-shards", 1L).param("count", "10000000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    @DisplayName("Should return HTTP 200 with the requested products in order and the missing ids")
+    void findByIds_ok() throws Exception {
+        ProductDto product2 = productDto(2L, "iphone 16", "iphone 16", BigDecimal.valueOf(1500), 10);
+        ProductDto product1 = productDto(1L, "iphone 15", "iphone 15", BigDecimal.valueOf(1300), 10);
+
+        when(productService.findByIds(List.of(2L, 9L, 1L)))
+                .thenReturn(new ProductLookupResponse(List.of(product2, product1), List.of(9L)));
+
+        mockMvc.perform(get("/api/products").param("ids", "2,9,1").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products[0].id").value(2))
+                .andExpect(jsonPath("$.products[1].id").value(1))
+                .andExpect(jsonPath("$.missing[0]").value(9));
+
+        verify(productService).findByIds(List.of(2L, 9L, 1L));
+        verifyNoMoreInteractions(productService);
+    }
+
+    @Test
+    @DisplayName("Should return HTTP 200 for a lookup posted in the request body")
+    void lookupByIds_ok() throws Exception {
+        ProductLookupRequest lookupRequest = new ProductLookupRequest();
+        lookupRequest.setIds(List.of(1L, 2L));
+
+        when(productService.findByIds(List.of(1L, 2L))).thenReturn(new ProductLookupResponse(List.of(), List.of(1L, 2L)));
+
+        mockMvc.perform(post("/api/products/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(lookupRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.missing.length()").value(2));
+
+        verify(productService).findByIds(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should return HTTP 400 when more ids are requested than one lookup allows")
+    void lookupByIds_tooManyIds() throws Exception {
+        ProductLookupRequest lookupRequest = new ProductLookupRequest();
+        lookupRequest.setIds(LongStream.rangeClosed(1, 501).boxed().toList());
+
+        mockMvc.perform(post("/api/products/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(lookupRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+
+        verifyNoInteractions(productService);
+    }
+
     private ProductDto productDto(Long id, String name, String description, BigDecimal price, Integer stock) {
         ProductDto productDto = new ProductDto();
         productDto.setId(id);
@@ -0,0 +1,110 @@
+package com.ecom.monolith.controller;
+
+import com.ecom.monolith.catalog.ProductChangedEvent;
+import com.ecom.monolith.catalog.ProductStreamHub;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for the ProductStreamController class.
+ * This class verifies that subscribers receive coalesced deltas for their own product ids only, and the subscription limits.
+ */
+@WebMvcTest(ProductStreamController.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ProductStreamControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ProductStreamHub productStreamHub;
+
+    @TestConfiguration
+    static class HubConfig {
+
+        // Sends run on the calling thread so the response body can be asserted right after flush(); every sharded
+        // product reports 42 units
+        @Bean
+        ProductStreamHub productStreamHub() {
+            return new ProductStreamHub(Runnable::run,
+                    ids -> ids.stream().collect(Collectors.toMap(Function.identity(), id -> 42)),
+                    2, Duration.ofMinutes(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream only the latest change per subscribed product once per flush")
+    void stream_coalescedDeltas() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/products/stream").param("ids", "1,2")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        productStreamHub.onProductChanged(new ProductChangedEvent(1L, BigDecimal.valueOf(1300), 9));
+        productStreamHub.onProductChanged(new ProductChangedEvent(1L, BigDecimal.valueOf(1300), 8));
+        productStreamHub.onProductChanged(new ProductChangedEvent(3L, BigDecimal.valueOf(500), 1));
+        productStreamHub.flush();
+
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).startsWith("event:products\ndata:");
+        assertThat(body).contains("\"productId\":1", "\"stockQuantity\":8");
+        assertThat(body).doesNotContain("\"stockQuantity\":9", "\"productId\":3", "stockOnly");
+
+        productStreamHub.flush();
+        assertThat(result.getResponse().getContentAsString()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("Should stream the shard total for a sharded decrement that carries no stock")
+    void stream_shardedDecrement_fillsStock() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/products/stream").param("ids", "1")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        productStreamHub.onProductChanged(new ProductChangedEvent(1L, BigDecimal.valueOf(1300), null));
+        productStreamHub.flush();
+
+        assertThat(result.getResponse().getContentAsString()).contains("\"productId\":1", "\"stockQuantity\":42");
+    }
+
+    @Test
+    @DisplayName("Should return HTTP 400 when no product id or too many ids are requested")
+    void stream_invalidIds() throws Exception {
+        mockMvc.perform(get("/api/products/stream").param("ids", ""))
+                .andExpect(status().isBadRequest());
+        String tooManyIds = LongStream.rangeClosed(1, 101).mapToObj(String::valueOf).collect(Collectors.joining(","));
+        mockMvc.perform(get("/api/products/stream").param("ids", tooManyIds))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    @DisplayName("Should return HTTP 429 when the hub already holds the maximum number of streams")
+    void stream_tooManySubscribers() throws Exception {
+        mockMvc.perform(get("/api/products/stream").param("ids", "1")).andExpect(request().asyncStarted());
+        mockMvc.perform(get("/api/products/stream").param("ids", "2")).andExpect(request().asyncStarted());
+
+        mockMvc.perform(get("/api/products/stream").param("ids", "3"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+}
@@ -0,0 +1,86 @@
+package com.ecom.monolith.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the GlobalExceptionHandler class.
+ * This class verifies error responses for domain exceptions, stackless exceptions and rate-limited logging.
+ */
+@ExtendWith(OutputCaptureExtension.class)
+public class GlobalExceptionHandlerTest {
+
+    @Test
+    @DisplayName("Verify handleApiException maps the exception status and code into the response")
+    void handleApiException_buildsResponse() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(10, Duration.ofSeconds(1));
+
+        ResponseEntity<ErrorResponse> response = handler.handleApiException(new InsufficientStock("Insufficient stock for product id: 1"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getErrorCode()).isEqualTo("INSUFFICIENT_STOCK");
+        assertThat(response.getBody().getError()).isEqualTo("Conflict");
+        assertThat(response.getBody().getMessage()).isEqualTo("Insufficient stock for product id: 1");
+    }
+
+    @Test
+    @DisplayName("Verify rate-limited requests get a Retry-After header")
+    void handleApiException_tooManyRequests_setsRetryAfter() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(10, Duration.ofSeconds(1));
+
+        ResponseEntity<ErrorResponse> response = handler.handleApiException(new TooManyRequests("Rate limit exceeded for CartController#addItem", 3));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst("Retry-After")).isEqualTo("3");
+        assertThat(response.getBody().getErrorCode()).isEqualTo("RATE_LIMITED");
+    }
+
+    @Test
+    @DisplayName("Verify handler logging is capped per error code and reports suppressed lines")
+    void handleApiException_rateLimitsLogging(CapturedOutput output) {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(2, Duration.ofHours(1));
+
+        for (int i = 0; i < 5; i++) {
+            handler.handleApiException(new ResourceNotFound("Resource not found with id: " + i));
+        }
+        handler.handleApiException(new InsufficientStock("Insufficient stock for product id: 1"));
+
+        assertThat(output).contains("Resource not found with id: 1").doesNotContain("Resource not found with id: 2");
+        assertThat(output).contains("Insufficient stock for product id: 1");
+    }
+
+    @Test
+    @DisplayName("Verify domain exceptions skip stack traces unless a subclass asks for them")
+    void apiException_stacklessByDefault() {
+        assertThat(new ResourceNotFound("missing").getStackTrace()).isEmpty();
+
+        ApiException traced = new ApiException("missing", HttpStatus.NOT_FOUND, "NOT_FOUND", true) {
+        };
+
+        assertThat(traced.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Verify the limiter reports how many lines were dropped once a new window opens")
+    void logRateLimiter_countsSuppressed() throws InterruptedException {
+        LogRateLimiter limiter = new LogRateLimiter(1, Duration.ofMillis(50));
+
+        assertThat(limiter.tryAcquire("RESOURCE_NOT_FOUND")).isZero();
+        assertThat(limiter.tryAcquire("RESOURCE_NOT_FOUND")).isEqualTo(-1);
+        assertThat(limiter.tryAcquire("RESOURCE_NOT_FOUND")).isEqualTo(-1);
+
+        Thread.sleep(60);
+
+        assertThat(limiter.tryAcquire("RESOURCE_NOT_FOUND")).isEqualTo(2);
+    }
+}
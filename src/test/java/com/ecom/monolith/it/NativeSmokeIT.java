@@ -0,0 +1,159 @@
+package com.ecom.monolith.it;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Smoke test for the native image built with {@code mvn -Pnative native:compile}.
+ * Boots the binary named by -Dnative.binary against a PostgreSQL test container, calls every controller once
+ * and reads a delta from the product stream. Skipped unless the property points at an executable, e.g.
+ * {@code mvn -Pnative verify -Dit.test=NativeSmokeIT -Dnative.binary=target/monolith}.
+ */
+public class NativeSmokeIT {
+
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("ecom_db")
+            .withUsername("ecom_user")
+            .withPassword("ecom_pass123");
+
+    private static Process process;
+    private static URI baseUrl;
+    private static final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeAll
+    static void startBinary() throws Exception {
+        String binary = System.getProperty("native.binary", "");
+        assumeTrue(new File(binary).canExecute(), "native.binary is not set to an executable");
+        POSTGRES.start();
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        baseUrl = URI.create("http://localhost:" + port);
+        process = new ProcessBuilder(List.of(binary,
+                "--server.port=" + port,
+                "--spring.profiles.active=prod",
+                "--spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                "--spring.datasource.username=" + POSTGRES.getUsername(),
+                "--spring.datasource.password=" + POSTGRES.getPassword(),
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.sql.init.mode=never"))
+                .redirectErrorStream(true)
+                .redirectOutput(new File("target/native-smoke.log"))
+                .start();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(60).toNanos();
+        while (System.nanoTime() < deadline) {
+            assertThat(process.isAlive()).as("binary exited, see target/native-smoke.log").isTrue();
+            try {
+                if (send(HttpRequest.newBuilder(baseUrl.resolve("/actuator/health")).GET()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notListeningYet) {
+                // keep polling
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("binary did not become healthy, see target/native-smoke.log");
+    }
+
+    @AfterAll
+    static void stopBinary() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            process.waitFor();
+        }
+        POSTGRES.stop();
+    }
+
+    @Test
+    @DisplayName("Verify every controller answers from the native binary")
+    void controllers_respond() throws Exception {
+        HttpResponse<String> user = post("/api/users", null,
+                "{\"firstName\":\"Native\",\"lastName\":\"Smoke\",\"email\":\"native@example.com\",\"phone\":\"1234567890\"}");
+        assertThat(user.statusCode()).isEqualTo(200);
+        String userId = id(user.body());
+        assertThat(get("/api/users/" + userId, null).statusCode()).isEqualTo(200);
+
+        HttpResponse<String> product = post("/api/products", null,
+                "{\"name\":\"native phone\",\"description\":\"smoke\",\"price\":10,\"stockQuantity\":5,\"category\":\"Electronic\"}");
+        assertThat(product.statusCode()).isEqualTo(200);
+        String productId = id(product.body());
+        assertThat(get("/api/products/" + productId, null).body()).contains("native phone");
+        assertThat(get("/api/products/search?keyword=native", null).body()).contains("native phone");
+        assertThat(get("/api/products/999999", null).statusCode()).isEqualTo(404);
+
+        assertThat(post("/api/cart", userId, "{\"productId\":\"" + productId + "\",\"quantity\":2}").statusCode()).isEqualTo(200);
+        assertThat(get("/api/cart", userId).body()).contains(productId);
+
+        // Subscribed before the order, so its stock change arrives as a delta on the next stream tick
+        HttpResponse<Stream<String>> stream = httpClient.sendAsync(
+                HttpRequest.newBuilder(baseUrl.resolve("/api/products/stream?ids=" + productId))
+                        .header("Accept", "text/event-stream").GET().build(),
+                HttpResponse.BodyHandlers.ofLines()).get(10, TimeUnit.SECONDS);
+        assertThat(stream.statusCode()).isEqualTo(200);
+
+        HttpResponse<String> order = post("/api/orders", userId, "");
+        assertThat(order.statusCode()).isEqualTo(201);
+        assertThat(order.body()).contains("\"items\"");
+
+        try (Stream<String> lines = stream.body()) {
+            String delta = CompletableFuture.supplyAsync(() -> lines.filter(line -> line.startsWith("data:")).findFirst())
+                    .get(10, TimeUnit.SECONDS)
+                    .orElseThrow();
+            assertThat(delta).contains("\"productId\":" + productId, "\"stockQuantity\":3");
+        }
+    }
+
+    private static HttpResponse<String> get(String path, String userId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUrl.resolve(path)).GET();
+        if (userId != null) {
+            request.header("X-User-ID", userId);
+        }
+        return send(request);
+    }
+
+    private static HttpResponse<String> post(String path, String userId, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (userId != null) {
+            request.header("X-User-ID", userId);
+        }
+        return send(request);
+    }
+
+    private static HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.timeout(Duration.ofSeconds(10)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String id(String json) {
+        Matcher matcher = ID.matcher(json);
+        assertThat(matcher.find()).as("no id in %s", json).isTrue();
+        return matcher.group(1);
+    }
+}
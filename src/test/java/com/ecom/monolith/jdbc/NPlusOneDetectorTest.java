@@ -0,0 +1,66 @@
+package com.ecom.monolith.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the NPlusOneDetector class.
+ * This class verifies that repeated selects against one table within a request are reported once.
+ */
+@ExtendWith(OutputCaptureExtension.class)
+public class NPlusOneDetectorTest {
+
+    private final NPlusOneDetector detector = new NPlusOneDetector(2);
+
+    @Test
+    @DisplayName("Verify a warning is logged once the same table is selected more than the threshold")
+    void afterQuery_overThreshold_warns(CapturedOutput output) {
+        detector.begin("GET /api/cart");
+        try {
+            select("select p1_0.id from product p1_0 where p1_0.id=?");
+            select("select p1_0.id from product p1_0 where p1_0.id=?");
+            select("select u1_0.id from users u1_0 where u1_0.id=?");
+            assertThat(output).doesNotContain("Possible N+1");
+
+            select("select p1_0.id from product p1_0 where p1_0.id=?");
+            select("select p1_0.id from product p1_0 where p1_0.id=?");
+        } finally {
+            detector.end();
+        }
+
+        assertThat(output).containsOnlyOnce("Possible N+1 in GET /api/cart: more than 2 selects against table product");
+        assertThat(output).contains("N+1 query origin");
+    }
+
+    @Test
+    @DisplayName("Verify statements outside a request scope are ignored")
+    void afterQuery_outsideRequest_ignored(CapturedOutput output) {
+        for (int i = 0; i < 5; i++) {
+            select("select p1_0.id from product p1_0 where p1_0.id=?");
+        }
+
+        assertThat(output).doesNotContain("Possible N+1");
+    }
+
+    @Test
+    @DisplayName("Verify the table is taken from the first from clause")
+    void table_extractsFromClause() {
+        assertThat(NPlusOneDetector.table("select c1_0.id from cart_item c1_0 join product p1_0 on p1_0.id=c1_0.product_id"))
+                .isEqualTo("cart_item");
+        assertThat(NPlusOneDetector.table("values 1")).isEqualTo("?");
+    }
+
+    private void select(String sql) {
+        QueryInfo queryInfo = new QueryInfo(sql);
+        detector.afterQuery(new ExecutionInfo(), List.of(queryInfo));
+    }
+}
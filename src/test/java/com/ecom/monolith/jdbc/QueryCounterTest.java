@@ -0,0 +1,156 @@
+package com.ecom.monolith.jdbc;
+
+import com.ecom.monolith.Dto.CartRequest;
+import com.ecom.monolith.model.Product;
+import com.ecom.monolith.model.Users;
+import com.ecom.monolith.repositories.CartItemRepository;
+import com.ecom.monolith.repositories.ProductRepository;
+import com.ecom.monolith.repositories.UsersRepository;
+import com.ecom.monolith.service.CartItemService;
+import com.ecom.monolith.service.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import net.ttddyy.dsproxy.QueryType;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the QueryCounter class.
+ * This class verifies that statements issued through the proxied DataSource are counted by type.
+ */
+@SpringBootTest
+public class QueryCounterTest {
+
+    @Autowired
+    QueryCounter queryCounter;
+
+    @Autowired
+    CartItemService cartItemService;
+
+    @Autowired
+    ProductService productService;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    UsersRepository usersRepository;
+
+    @Autowired
+    CartItemRepository cartItemRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Users user;
+
+    @BeforeEach
+    void setUp() {
+        user = usersRepository.save(user());
+        for (int i = 0; i < 3; i++) {
+            Product product = productRepository.save(product("phone " + i));
+            cartItemService.addCartItem(String.valueOf(user.getId()), cartRequest(product.getId()));
+        }
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        queryCounter.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cartItemRepository.deleteAll();
+        usersRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Verify getCartItems loads cart products with the cart instead of one select per product")
+    void getCartItems_selectCount() {
+        cartItemService.getCartItems(String.valueOf(user.getId()));
+
+        assertThat(queryCounter.selects()).isEqualTo(2);
+        assertThat(queryCounter.count(QueryType.INSERT)).isZero();
+    }
+
+    @Test
+    @DisplayName("Verify addCartItems reads the user, products and cart rows with one select each and batches the updates")
+    void addCartItems_selectCount() {
+        Product added = productRepository.save(product("phone 3"));
+        List<CartRequest> lines = cartItemRepository.findByUsersId(user.getId()).stream()
+                .map(cartItem -> cartRequest(cartItem.getProduct().getId()))
+                .collect(Collectors.toCollection(ArrayList::new));
+        lines.add(cartRequest(added.getId()));
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        queryCounter.reset();
+
+        cartItemService.addCartItems(String.valueOf(user.getId()), lines);
+
+        assertThat(queryCounter.selects()).isEqualTo(3);
+        assertThat(queryCounter.count(QueryType.INSERT)).isEqualTo(1);
+        // The three quantity updates share one JDBC batch
+        assertThat(queryCounter.count(QueryType.UPDATE)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Verify findByIds selects uncached products in one query and serves cached ones without any")
+    void findByIds_selectCount() {
+        List<Long> ids = productRepository.findAll().stream().map(Product::getId).toList();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        queryCounter.reset();
+
+        productService.findByIds(ids);
+        assertThat(queryCounter.selects()).isEqualTo(1);
+
+        queryCounter.reset();
+        productService.findByIds(ids);
+        assertThat(queryCounter.selects()).isZero();
+    }
+
+    @Test
+    @DisplayName("Verify reset clears all counts")
+    void reset_clearsCounts() {
+        cartItemService.getCartItems(String.valueOf(user.getId()));
+        assertThat(queryCounter.total()).isPositive();
+
+        queryCounter.reset();
+
+        assertThat(queryCounter.total()).isZero();
+    }
+
+    private Users user() {
+        Users user = new Users();
+        user.setFirstName("Jane");
+        user.setLastName("Smith");
+        user.setEmail("jane@example.com");
+        user.setPhone("1234567890");
+        return user;
+    }
+
+    private Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setDescription(name);
+        product.setPrice(BigDecimal.valueOf(100));
+        product.setActive(true);
+        product.setStockQuantity(100);
+        product.setCategory("Electronic");
+        return product;
+    }
+
+    private CartRequest cartRequest(Long productId) {
+        CartRequest cartRequest = new CartRequest();
+        cartRequest.setProductId(String.valueOf(productId));
+        cartRequest.setQuantity(1);
+        return cartRequest;
+    }
+}
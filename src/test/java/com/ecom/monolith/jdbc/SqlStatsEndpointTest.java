@@ -0,0 +1,61 @@
+package com.ecom.monolith.jdbc;
+
+import com.ecom.monolith.model.Product;
+import com.ecom.monolith.repositories.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the sqlstats actuator endpoint.
+ * This class verifies that statements and endpoint DB time from real requests are reported.
+ */
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=sqlstats")
+@AutoConfigureMockMvc
+public class SqlStatsEndpointTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should return HTTP 200 with statement shapes and endpoint DB time")
+    void sqlStats_reportsRequests() throws Exception {
+        Product product = new Product();
+        product.setName("iphone 15");
+        product.setPrice(BigDecimal.valueOf(1300));
+        product.setStockQuantity(10);
+        product.setActive(true);
+        product.setCategory("Electronic");
+        productRepository.save(product);
+        mockMvc.perform(delete("/actuator/sqlstats")).andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/products/search").param("keyword", "iphone")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/sqlstats").param("top", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statements[*].sql", hasItem(containsString("from product"))))
+                .andExpect(jsonPath("$.endpoints[0].endpoint").value("ProductController#findByKeyword"))
+                .andExpect(jsonPath("$.endpoints[0].requests").value(1))
+                .andExpect(jsonPath("$.statements", hasSize(lessThanOrEqualTo(5))));
+    }
+}
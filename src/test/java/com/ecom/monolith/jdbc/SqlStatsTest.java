@@ -0,0 +1,90 @@
+package com.ecom.monolith.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the SqlStats class.
+ * This class verifies SQL shape normalization, per-shape aggregation, endpoint DB time and the slow-statement log.
+ */
+@ExtendWith(OutputCaptureExtension.class)
+public class SqlStatsTest {
+
+    @Test
+    @DisplayName("Verify literals and IN lists are collapsed into one shape")
+    void normalize_collapsesLiterals() {
+        assertThat(SqlStats.normalize("select p1_0.id from product p1_0 where p1_0.id in (?, ?,?) and p1_0.name = 'it''s'  and p1_0.price > 10.5"))
+                .isEqualTo("select p1_0.id from product p1_0 where p1_0.id in (?) and p1_0.name = ? and p1_0.price > ?");
+    }
+
+    @Test
+    @DisplayName("Verify statements are aggregated per shape and sorted by total time")
+    void topShapes_aggregatesPerShape() {
+        SqlStats sqlStats = new SqlStats(Duration.ofSeconds(10), 10);
+
+        execute(sqlStats, "select * from product where id = 1");
+        execute(sqlStats, "select * from product where id = 2");
+        execute(sqlStats, "select * from users where id = 3");
+
+        List<SqlStats.ShapeReport> shapes = sqlStats.topShapes(10);
+        assertThat(shapes).extracting(SqlStats.ShapeReport::sql)
+                .containsExactlyInAnyOrder("select * from product where id = ?", "select * from users where id = ?");
+        assertThat(shapes).filteredOn(shape -> shape.sql().contains("product"))
+                .singleElement()
+                .satisfies(shape -> {
+                    assertThat(shape.count()).isEqualTo(2);
+                    assertThat(shape.p99Millis()).isLessThanOrEqualTo(shape.maxMillis());
+                });
+        assertThat(sqlStats.topShapes(1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Verify new shapes beyond the limit are folded into one bucket")
+    void topShapes_boundedShapes() {
+        SqlStats sqlStats = new SqlStats(Duration.ofSeconds(10), 1);
+
+        execute(sqlStats, "select * from product");
+        execute(sqlStats, "select * from users");
+        execute(sqlStats, "select * from address");
+
+        assertThat(sqlStats.topShapes(10)).extracting(SqlStats.ShapeReport::sql)
+                .containsExactlyInAnyOrder("select * from product", "<other>");
+    }
+
+    @Test
+    @DisplayName("Verify DB time is attributed to the endpoint and slow statements are logged with it")
+    void endRequest_recordsEndpoint(CapturedOutput output) {
+        SqlStats sqlStats = new SqlStats(Duration.ZERO, 10);
+
+        sqlStats.beginRequest("ProductController#getAllProducts");
+        execute(sqlStats, "select * from product where active");
+        execute(sqlStats, "select * from product where active");
+        sqlStats.endRequest();
+
+        assertThat(sqlStats.topEndpoints(10)).singleElement().satisfies(endpoint -> {
+            assertThat(endpoint.endpoint()).isEqualTo("ProductController#getAllProducts");
+            assertThat(endpoint.requests()).isEqualTo(1);
+            assertThat(endpoint.statements()).isEqualTo(2);
+        });
+        assertThat(output).contains("in ProductController#getAllProducts: select * from product where active");
+
+        sqlStats.reset();
+        assertThat(sqlStats.report(10)).containsEntry("statements", List.of()).containsEntry("endpoints", List.of());
+    }
+
+    private void execute(SqlStats sqlStats, String sql) {
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        sqlStats.beforeQuery(new ExecutionInfo(), queries);
+        sqlStats.afterQuery(new ExecutionInfo(), queries);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ecom.monolith.jdbc;
+
+import jakarta.servlet.DispatcherType;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the SqlTimingInterceptor class.
+ * This class verifies that an async request ends its timing when it goes async and is not counted twice.
+ */
+public class SqlTimingInterceptorTest {
+
+    private final SqlStats sqlStats = new SqlStats(Duration.ofSeconds(10), 10);
+    private final SqlTimingInterceptor interceptor = new SqlTimingInterceptor(sqlStats);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    @DisplayName("Verify an async request is recorded once and leaves no timing on the worker thread")
+    void asyncRequest_endsTimingWhenGoingAsync() throws Exception {
+        HandlerMethod handler = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        interceptor.preHandle(request, response, handler);
+        execute("select * from product where id = 1");
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+        // The worker thread serves an unrelated statement before its next request
+        execute("select * from product where id = 2");
+
+        MockHttpServletRequest asyncDispatch = new MockHttpServletRequest();
+        asyncDispatch.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(asyncDispatch, response, handler);
+        interceptor.afterCompletion(asyncDispatch, response, handler, null);
+
+        assertThat(sqlStats.topEndpoints(10)).singleElement().satisfies(endpoint -> {
+            assertThat(endpoint.endpoint()).isEqualTo("Object#toString");
+            assertThat(endpoint.requests()).isEqualTo(1);
+            assertThat(endpoint.statements()).isEqualTo(1);
+        });
+    }
+
+    private void execute(String sql) {
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        sqlStats.beforeQuery(new ExecutionInfo(), queries);
+        sqlStats.afterQuery(new ExecutionInfo(), queries);
+    }
+}
@@ -0,0 +1,148 @@
+package com.ecom.monolith.jfr;
+
+import com.ecom.monolith.Dto.CartRequest;
+import com.ecom.monolith.model.Product;
+import com.ecom.monolith.model.Users;
+import com.ecom.monolith.repositories.CartItemRepository;
+import com.ecom.monolith.repositories.OrderRepository;
+import com.ecom.monolith.repositories.ProductRepository;
+import com.ecom.monolith.repositories.UsersRepository;
+import com.ecom.monolith.service.CartItemService;
+import com.ecom.monolith.service.OrderService;
+import com.ecom.monolith.service.ProductService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the JfrEventAspect class.
+ * This class verifies that service and repository calls emit Flight Recorder events with their fields.
+ */
+@SpringBootTest(properties = "app.jfr.enabled=true")
+public class JfrEventAspectTest {
+
+    @Autowired
+    ProductService productService;
+
+    @Autowired
+    CartItemService cartItemService;
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    UsersRepository usersRepository;
+
+    @Autowired
+    CartItemRepository cartItemRepository;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        cartItemRepository.deleteAll();
+        usersRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Verify search, cart add, order placement and repository calls are recorded")
+    void businessOperations_recorded() throws Exception {
+        Product product = productRepository.save(product());
+        Users user = usersRepository.save(user());
+        String userId = String.valueOf(user.getId());
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(ProductSearchEvent.class);
+            recording.enable(CartAddEvent.class);
+            recording.enable(OrderPlacementEvent.class);
+            recording.enable(RepositoryCallEvent.class);
+            recording.start();
+
+            productService.findByKeyword("iphone");
+            cartItemService.addCartItem(userId, cartRequest(product.getId()));
+            orderService.placeOrder(userId);
+
+            recording.stop();
+            Path file = tempDir.resolve("events.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertThat(events).filteredOn(event -> event.getEventType().getName().equals("com.ecom.monolith.ProductSearch"))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getString("keyword")).isEqualTo("iphone");
+                    assertThat(event.getInt("productCount")).isEqualTo(1);
+                });
+        assertThat(events).filteredOn(event -> event.getEventType().getName().equals("com.ecom.monolith.CartAdd"))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getString("userId")).isEqualTo(userId);
+                    assertThat(event.getInt("quantity")).isEqualTo(2);
+                    assertThat(event.getBoolean("added")).isTrue();
+                });
+        assertThat(events).filteredOn(event -> event.getEventType().getName().equals("com.ecom.monolith.OrderPlacement"))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getInt("productCount")).isEqualTo(1);
+                    assertThat(event.getBoolean("succeeded")).isTrue();
+                    assertThat(event.getDuration()).isPositive();
+                });
+        assertThat(events).filteredOn(event -> event.getEventType().getName().equals("com.ecom.monolith.RepositoryCall"))
+                .anySatisfy(event -> {
+                    assertThat(event.getString("repository")).isEqualTo("ProductRepository");
+                    assertThat(event.getString("method")).isEqualTo("findByNameContainingIgnoreCaseAndActiveTrue");
+                    assertThat(event.getLong("rowCount")).isEqualTo(1);
+                })
+                .anySatisfy(event -> assertThat(event.getString("repository")).isEqualTo("CartItemRepository"));
+    }
+
+    private Product product() {
+        Product product = new Product();
+        product.setName("iphone 15");
+        product.setDescription("iphone 15");
+        product.setPrice(BigDecimal.valueOf(1300));
+        product.setActive(true);
+        product.setStockQuantity(10);
+        product.setCategory("Electronic");
+        return product;
+    }
+
+    private Users user() {
+        Users user = new Users();
+        user.setFirstName("Jane");
+        user.setLastName("Smith");
+        user.setEmail("jane@example.com");
+        user.setPhone("1234567890");
+        return user;
+    }
+
+    private CartRequest cartRequest(Long productId) {
+        CartRequest cartRequest = new CartRequest();
+        cartRequest.setProductId(String.valueOf(productId));
+        cartRequest.setQuantity(2);
+        return cartRequest;
+    }
+}
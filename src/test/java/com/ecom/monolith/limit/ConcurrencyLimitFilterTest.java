@@ -0,0 +1,117 @@
+package com.ecom.monolith.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the ConcurrencyLimitFilter class.
+ * This class verifies that excess requests are shed with 503 and that priority paths keep a reserved share of the limit.
+ */
+public class ConcurrencyLimitFilterTest {
+
+    private final ConcurrencyLimiter limiter = new ConcurrencyLimiter(new GradientLimit(5, 5, 5, 0.2, 100), 0.4);
+    private final ConcurrencyLimitFilter filter =
+            new ConcurrencyLimitFilter(limiter, List.of("/api/orders"), new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @Test
+    @DisplayName("Should return HTTP 503 with Retry-After once ordinary requests use their share of the limit")
+    void doFilter_overLimit_sheds() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            holdRequests(executor, "/api/products/1", 3, release);
+
+            MockHttpServletResponse shed = perform("/api/products/2");
+            MockHttpServletResponse order = perform("/api/orders");
+
+            assertThat(shed.getStatus()).isEqualTo(503);
+            assertThat(shed.getHeader("Retry-After")).isEqualTo("1");
+            assertThat(shed.getContentAsString()).contains("\"errorCode\":\"OVERLOADED\"");
+            assertThat(order.getStatus()).isEqualTo(200);
+            assertThat(limiter.getRejected()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return HTTP 503 for priority requests only once the whole limit is in use")
+    void doFilter_priorityOverLimit_sheds() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            holdRequests(executor, "/api/orders", 5, release);
+
+            assertThat(perform("/api/orders").getStatus()).isEqualTo(503);
+            assertThat(limiter.getRejectedPriority()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify an async request frees its slot without feeding the latency estimate")
+    void doFilter_asyncStarted_releasesWithoutSample() throws Exception {
+        GradientLimit limit = mock(GradientLimit.class);
+        when(limit.getLimit()).thenReturn(5);
+        ConcurrencyLimiter asyncLimiter = new ConcurrencyLimiter(limit, 0.4);
+        ConcurrencyLimitFilter asyncFilter = new ConcurrencyLimitFilter(asyncLimiter, List.of(), new ObjectMapper());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/stream");
+        request.setAsyncSupported(true);
+
+        asyncFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertThat(asyncLimiter.getInFlight()).isZero();
+        verify(limit, never()).onSample(anyLong(), anyInt());
+    }
+
+    private void holdRequests(ExecutorService executor, String path, int count, CountDownLatch release) throws InterruptedException {
+        CountDownLatch entered = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            executor.submit(() -> {
+                FilterChain chain = (request, response) -> {
+                    entered.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                };
+                filter.doFilter(new MockHttpServletRequest("GET", path), new MockHttpServletResponse(), chain);
+                return null;
+            });
+        }
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private MockHttpServletResponse perform(String path) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", path), response, new MockFilterChain());
+        return response;
+    }
+}
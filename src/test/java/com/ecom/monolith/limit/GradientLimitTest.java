@@ -0,0 +1,73 @@
+package com.ecom.monolith.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the GradientLimit class.
+ * This class verifies that the limit grows under steady latency, shrinks when latency rises and stays within bounds.
+ */
+public class GradientLimitTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    @DisplayName("Verify the limit grows while latency holds steady and the limit is in use")
+    void onSample_steadyLatency_grows() {
+        GradientLimit limit = new GradientLimit(20, 4, 200, 0.2, 100);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT, limit.getLimit());
+        }
+
+        assertThat(limit.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    @DisplayName("Verify the limit shrinks when latency rises well above the baseline")
+    void onSample_risingLatency_shrinks() {
+        GradientLimit limit = new GradientLimit(50, 4, 200, 0.2, 100);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(RTT, 50);
+        }
+        int before = limit.getLimit();
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(RTT * 10, limit.getLimit());
+        }
+
+        assertThat(limit.getLimit()).isLessThan(before);
+    }
+
+    @Test
+    @DisplayName("Verify the limit does not grow while most of it is unused")
+    void onSample_appLimited_holds() {
+        GradientLimit limit = new GradientLimit(20, 4, 200, 0.2, 100);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT, 2);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Verify the limit stays between the configured minimum and maximum")
+    void onSample_clamped() {
+        GradientLimit growing = new GradientLimit(20, 4, 30, 1.0, 100);
+        GradientLimit shrinking = new GradientLimit(20, 8, 200, 1.0, 1_000);
+        shrinking.onSample(RTT, 20);
+
+        for (int i = 0; i < 100; i++) {
+            growing.onSample(RTT, growing.getLimit());
+            shrinking.onSample(RTT * 100, shrinking.getLimit());
+        }
+
+        assertThat(growing.getLimit()).isEqualTo(30);
+        assertThat(shrinking.getLimit()).isEqualTo(8);
+    }
+}
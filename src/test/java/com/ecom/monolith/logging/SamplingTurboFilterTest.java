@@ -0,0 +1,83 @@
+package com.ecom.monolith.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the SamplingTurboFilter class.
+ * This class verifies which loggers and levels are sampled and that per-prefix rates override the default.
+ */
+public class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+
+    @Test
+    @DisplayName("Verify INFO lines of a sampled logger are dropped at rate 0")
+    void decide_rateZero_deniesInfo() {
+        SamplingTurboFilter filter = filter(0.0, "com.ecom.monolith.service");
+
+        assertThat(decide(filter, "com.ecom.monolith.service.CartItemServiceImpl", Level.INFO)).isEqualTo(FilterReply.DENY);
+        assertThat(decide(filter, "com.ecom.monolith.service.CartItemServiceImpl", Level.DEBUG)).isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    @DisplayName("Verify warnings and errors always pass")
+    void decide_warnAndError_alwaysPass() {
+        SamplingTurboFilter filter = filter(0.0, "com.ecom.monolith.service");
+
+        assertThat(decide(filter, "com.ecom.monolith.service.CartItemServiceImpl", Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(filter, "com.ecom.monolith.service.CartItemServiceImpl", Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("Verify loggers outside the configured prefixes are not sampled")
+    void decide_otherLogger_passes() {
+        SamplingTurboFilter filter = filter(0.0, "com.ecom.monolith.service");
+
+        assertThat(decide(filter, "com.ecom.monolith.jdbc.SqlStats", Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(filter, "com.ecom.monolith.serviceextra.Foo", Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("Verify the longest matching prefix decides the rate")
+    void decide_prefixRate_overridesDefault() {
+        SamplingTurboFilter filter = filter(0.0, "com.ecom.monolith.service, com.ecom.monolith.service.OrderServiceImpl=1.0");
+
+        assertThat(decide(filter, "com.ecom.monolith.service.OrderServiceImpl", Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(filter, "com.ecom.monolith.service.ProductServiceImpl", Level.INFO)).isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    @DisplayName("Verify a fractional rate keeps roughly that share of lines")
+    void decide_fractionalRate_keepsShare() {
+        SamplingTurboFilter filter = filter(0.25, "com.ecom.monolith.controller");
+
+        long kept = IntStream.range(0, 10_000)
+                .filter(i -> decide(filter, "com.ecom.monolith.controller.CartController", Level.INFO) == FilterReply.NEUTRAL)
+                .count();
+
+        assertThat(kept).isBetween(2_000L, 3_000L);
+    }
+
+    private SamplingTurboFilter filter(double rate, String loggers) {
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setContext(context);
+        filter.setRate(rate);
+        filter.setLoggers(loggers);
+        filter.start();
+        return filter;
+    }
+
+    private FilterReply decide(SamplingTurboFilter filter, String loggerName, Level level) {
+        Logger logger = context.getLogger(loggerName);
+        return filter.decide(null, logger, level, "message {}", new Object[]{1}, null);
+    }
+}
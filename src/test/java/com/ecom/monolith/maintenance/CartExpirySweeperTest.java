@@ -0,0 +1,144 @@
+package com.ecom.monolith.maintenance;
+
+import com.ecom.monolith.model.CartItem;
+import com.ecom.monolith.model.Product;
+import com.ecom.monolith.model.Users;
+import com.ecom.monolith.repositories.CartItemRepository;
+import com.ecom.monolith.repositories.ProductRepository;
+import com.ecom.monolith.repositories.UsersRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the CartExpirySweeper class.
+ * This class verifies that only stale cart rows are deleted, in bounded batches, and that a lagging replica stops the sweep.
+ */
+@SpringBootTest
+public class CartExpirySweeperTest {
+
+    @Autowired
+    CartItemRepository cartItemRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    UsersRepository usersRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private List<CartItem> stale;
+
+    private List<CartItem> recent;
+
+    @BeforeEach
+    void setUp() {
+        Users user = usersRepository.save(user());
+        List<CartItem> items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Product product = productRepository.save(product("phone " + i));
+            CartItem cartItem = new CartItem();
+            cartItem.setUsers(user);
+            cartItem.setProduct(product);
+            cartItem.setQuantity(1);
+            cartItem.setPrice(product.getPrice());
+            items.add(cartItemRepository.save(cartItem));
+        }
+        stale = items.subList(0, 3);
+        recent = items.subList(3, 5);
+        Timestamp longAgo = Timestamp.valueOf(LocalDateTime.now().minusDays(40));
+        for (CartItem cartItem : stale) {
+            jdbcTemplate.update("update cart_item set updated_at = ? where id = ?", longAgo, cartItem.getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        cartItemRepository.deleteAll();
+        usersRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Verify sweep deletes rows older than the max age in batches and keeps recent rows")
+    void sweep_deletesStaleRowsInBatches() {
+        int deleted = sweeper(false, 10).sweep();
+
+        assertThat(deleted).isEqualTo(3);
+        assertThat(cartItemRepository.findAll()).extracting(CartItem::getId)
+                .containsExactlyInAnyOrderElementsOf(recent.stream().map(CartItem::getId).toList());
+        assertThat(meterRegistry.get("app.cart.expiry.deleted").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("app.cart.expiry.batches").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("app.cart.expiry.last-run.deleted").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Verify a run stops after the maximum number of batches and the next run continues")
+    void sweep_maxBatches_leavesRestForNextRun() {
+        CartExpirySweeper sweeper = sweeper(false, 1);
+
+        assertThat(sweeper.sweep()).isEqualTo(2);
+        assertThat(cartItemRepository.count()).isEqualTo(3);
+        assertThat(sweeper.sweep()).isEqualTo(1);
+        assertThat(cartItemRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Verify nothing is deleted while the replica is lagging")
+    void sweep_replicaLagging_stops() {
+        int deleted = sweeper(true, 10).sweep();
+
+        assertThat(deleted).isZero();
+        assertThat(cartItemRepository.count()).isEqualTo(5);
+        assertThat(meterRegistry.get("app.cart.expiry.throttled").counter().count()).isEqualTo(1);
+    }
+
+    private CartExpirySweeper sweeper(boolean replicaLagging, int maxBatches) {
+        return new CartExpirySweeper(cartItemRepository, new TransactionTemplate(transactionManager), () -> replicaLagging,
+                Clock.systemDefaultZone(), Duration.ofDays(30), 2, Duration.ZERO, maxBatches, meterRegistry);
+    }
+
+    private Users user() {
+        Users user = new Users();
+        user.setFirstName("Jane");
+        user.setLastName("Smith");
+        user.setEmail("jane@example.com");
+        user.setPhone("1234567890");
+        return user;
+    }
+
+    private Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setDescription(name);
+        product.setPrice(BigDecimal.valueOf(100));
+        product.setActive(true);
+        product.setStockQuantity(100);
+        product.setCategory("Electronic");
+        return product;
+    }
+}
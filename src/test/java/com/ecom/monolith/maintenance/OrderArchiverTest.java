@@ -0,0 +1,178 @@
+package com.ecom.monolith.maintenance;
+
+import com.ecom.monolith.Dto.OrderResponse;
+import com.ecom.monolith.model.ArchivedOrder;
+import com.ecom.monolith.model.Order;
+import com.ecom.monolith.model.OrderItem;
+import com.ecom.monolith.model.OrderStatus;
+import com.ecom.monolith.model.Product;
+import com.ecom.monolith.model.Users;
+import com.ecom.monolith.repositories.ArchivedOrderRepository;
+import com.ecom.monolith.repositories.OrderRepository;
+import com.ecom.monolith.repositories.ProductRepository;
+import com.ecom.monolith.repositories.UsersRepository;
+import com.ecom.monolith.service.OrderArchiveService;
+import com.ecom.monolith.service.OrderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Integration tests for the OrderArchiver class.
+ * This class verifies that orders past the retention period move to the archive with their items, that recent orders
+ * stay live, and that order lookups return archived orders unchanged.
+ */
+@SpringBootTest
+public class OrderArchiverTest {
+
+    @Autowired
+    OrderArchiveService orderArchiveService;
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    UsersRepository usersRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderPartitionManager partitionManager = mock(OrderPartitionManager.class);
+
+    private Users user;
+    private List<Order> old;
+    private Order recent;
+
+    @BeforeEach
+    void setUp() {
+        user = usersRepository.save(user());
+        Product product = productRepository.save(product());
+        List<Order> orders = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            orders.add(orderRepository.save(order(user, product, i)));
+        }
+        old = orders.subList(0, 3);
+        recent = orders.get(3);
+        Timestamp longAgo = Timestamp.valueOf(LocalDateTime.now().minusMonths(14));
+        for (Order order : old) {
+            jdbcTemplate.update("update orders set created_at = ? where id = ?", longAgo, order.getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        archivedOrderRepository.deleteAll();
+        orderRepository.deleteAll();
+        usersRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Verify archive moves orders past retention with their items and keeps recent orders live")
+    void archive_movesOldOrders() {
+        int archived = archiver(false).archive();
+
+        assertThat(archived).isEqualTo(3);
+        assertThat(orderRepository.findAll()).extracting(Order::getId).containsExactly(recent.getId());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from order_item", Integer.class)).isEqualTo(1);
+        assertThat(archivedOrderRepository.findAll()).extracting(ArchivedOrder::getId)
+                .containsExactlyInAnyOrderElementsOf(old.stream().map(Order::getId).toList());
+        assertThat(meterRegistry.get("app.orders.archive.archived").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("app.orders.archive.batches").counter().count()).isEqualTo(2);
+        verify(partitionManager).dropEmptyPartitionsBefore(YearMonth.now().minusMonths(12));
+    }
+
+    @Test
+    @DisplayName("Verify an archived order is returned by the order lookup with its items")
+    void getOrder_archived_returnsOrder() {
+        Order order = old.get(1);
+        archiver(false).archive();
+
+        OrderResponse response = orderService.getOrder(user.getId().toString(), order.getId());
+
+        assertThat(response.getId()).isEqualTo(order.getId());
+        assertThat(response.getStatus()).isEqualTo(OrderStatus.ORDERED);
+        assertThat(response.getTotalAmount()).isEqualByComparingTo("200");
+        assertThat(response.getItems()).singleElement()
+                .satisfies(item -> assertThat(item.getQuantity()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Verify nothing is archived while the replica is lagging")
+    void archive_replicaLagging_stops() {
+        int archived = archiver(true).archive();
+
+        assertThat(archived).isZero();
+        assertThat(orderRepository.count()).isEqualTo(4);
+        assertThat(meterRegistry.get("app.orders.archive.throttled").counter().count()).isEqualTo(1);
+        verifyNoInteractions(partitionManager);
+    }
+
+    private OrderArchiver archiver(boolean replicaLagging) {
+        return new OrderArchiver(orderArchiveService, partitionManager, () -> replicaLagging, Clock.systemDefaultZone(),
+                12, 2, Duration.ZERO, 10, meterRegistry);
+    }
+
+    private Order order(Users user, Product product, int quantity) {
+        Order order = new Order();
+        order.setUsers(user);
+        order.setStatus(OrderStatus.ORDERED);
+        order.setTotalAmount(product.getPrice().multiply(BigDecimal.valueOf(quantity)));
+        OrderItem item = new OrderItem();
+        item.setOrder(order);
+        item.setProduct(product);
+        item.setQuantity(quantity);
+        item.setPrice(product.getPrice());
+        order.getItems().add(item);
+        return order;
+    }
+
+    private Users user() {
+        Users user = new Users();
+        user.setFirstName("Jane");
+        user.setLastName("Smith");
+        user.setEmail("jane@example.com");
+        user.setPhone("1234567890");
+        return user;
+    }
+
+    private Product product() {
+        Product product = new Product();
+        product.setName("iphone 15");
+        product.setDescription("iphone 15");
+        product.setPrice(BigDecimal.valueOf(100));
+        product.setActive(true);
+        product.setStockQuantity(100);
+        product.setCategory("Electronic");
+        return product;
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecom.monolith.maintenance;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the OrderPartitionManager class.
+ * This class verifies which monthly partitions are created ahead of time and which archived ones are dropped.
+ */
+public class OrderPartitionManagerTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final Clock clock = Clock.fixed(Instant.parse("2026-11-20T10:00:00Z"), ZoneOffset.UTC);
+    private final OrderPartitionManager manager = new OrderPartitionManager(jdbcTemplate, clock, 2);
+
+    @Test
+    @DisplayName("Verify partitions for the current month and the months ahead are created for both tables")
+    void createUpcomingPartitions_createsMonthsAhead() {
+        manager.createUpcomingPartitions();
+
+        verify(jdbcTemplate).execute("create table if not exists orders_p202611 partition of orders for values from ('2026-11-01') to ('2026-12-01')");
+        verify(jdbcTemplate).execute("create table if not exists order_item_p202612 partition of order_item for values from ('2026-12-01') to ('2027-01-01')");
+        verify(jdbcTemplate).execute("create table if not exists orders_p202701 partition of orders for values from ('2027-01-01') to ('2027-02-01')");
+        verify(jdbcTemplate, times(6)).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("Verify only empty partitions before the cutoff are dropped")
+    void dropEmptyPartitionsBefore_dropsEmptyOldPartitions() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("orders")))
+                .thenReturn(List.of("orders_p202509", "orders_p202510", "orders_p202511", "orders_default"));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("order_item")))
+                .thenReturn(List.of("order_item_p202510"));
+        when(jdbcTemplate.queryForObject("select not exists (select 1 from \"orders_p202509\")", Boolean.class)).thenReturn(true);
+        when(jdbcTemplate.queryForObject("select not exists (select 1 from \"orders_p202510\")", Boolean.class)).thenReturn(true);
+        when(jdbcTemplate.queryForObject("select not exists (select 1 from \"order_item_p202510\")", Boolean.class)).thenReturn(false);
+
+        int dropped = manager.dropEmptyPartitionsBefore(YearMonth.of(2025, 11));
+
+        assertThat(dropped).isEqualTo(2);
+        verify(jdbcTemplate).execute("drop table \"orders_p202509\"");
+        verify(jdbcTemplate).execute("drop table \"orders_p202510\"");
+        verify(jdbcTemplate, never()).execute("drop table \"order_item_p202510\"");
+        verify(jdbcTemplate, never()).queryForObject("select not exists (select 1 from \"orders_p202511\")", Boolean.class);
+    }
+
+    @Test
+    @DisplayName("Verify the partition lookup is limited to the current schema")
+    void dropEmptyPartitionsBefore_searchesCurrentSchema() {
+        manager.dropEmptyPartitionsBefore(YearMonth.of(2025, 11));
+
+        verify(jdbcTemplate).queryForList(contains("current_schema()"), eq(String.class), eq("orders"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.ecom.monolith.perf;
+
+import com.ecom.monolith.model.Product;
+import com.ecom.monolith.model.Users;
+import com.ecom.monolith.repositories.ProductRepository;
+import com.ecom.monolith.repositories.UsersRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test of the REST API against the H2 test profile.
+ * Not part of the default test run; execute with {@code mvn test -Dtest=ApiLoadBenchmark} and tune with
+ * -Dload.users, -Dload.products, -Dload.clients, -Dload.warmup and -Dload.duration (seconds),
+ * -Dload.mix (e.g. browse=50,search=25,add_to_cart=20,place_order=5) and -Dload.report.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class ApiLoadBenchmark {
+
+    private static final String[] NAMES = {"phone", "laptop", "watch", "camera", "speaker", "tablet"};
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    UsersRepository usersRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Test
+    @DisplayName("Measure throughput and latency of a mixed API workload")
+    void mixedWorkload() throws Exception {
+        LoadHarness.Settings settings = LoadHarness.Settings.fromSystemProperties();
+        List<Long> userIds = seedUsers(usersRepository, Math.max(Integer.getInteger("load.users", 200), settings.clients()));
+        List<Long> productIds = seedProducts(productRepository, Integer.getInteger("load.products", 500));
+
+        LoadReport report = new LoadHarness(URI.create("http://localhost:" + port), userIds, productIds, settings).run();
+
+        Path reportFile = Path.of(System.getProperty("load.report", "target/perf/load-report.json"));
+        report.writeJson(reportFile);
+        System.out.printf("Load test: %.0f req/s, p50 %.2f ms, p99 %.2f ms, %d errors -> %s%n",
+                report.throughput(), report.latency().p50(), report.latency().p99(), report.errors(), reportFile);
+        assertThat(report.requests()).isPositive();
+    }
+
+    static List<Long> seedUsers(UsersRepository usersRepository, int count) {
+        return usersRepository.saveAll(IntStream.range(0, count).mapToObj(i -> {
+            Users user = new Users();
+            user.setFirstName("Load");
+            user.setLastName("User" + i);
+            user.setEmail("load" + i + "@example.com");
+            user.setPhone("1234567890");
+            return user;
+        }).toList()).stream().map(Users::getId).toList();
+    }
+
+    static List<Long> seedProducts(ProductRepository productRepository, int count) {
+        return productRepository.saveAll(IntStream.range(0, count).mapToObj(i -> {
+            Product product = new Product();
+            product.setName(NAMES[i % NAMES.length] + " " + i);
+            product.setDescription("load test " + NAMES[i % NAMES.length]);
+            product.setPrice(BigDecimal.valueOf(10 + i % 90));
+            product.setStockQuantity(1_000_000);
+            product.setCategory("Electronic");
+            product.setActive(true);
+            return product;
+        }).toList()).stream().map(Product::getId).toList();
+    }
+}
@@ -0,0 +1,70 @@
+package com.ecom.monolith.perf;
+
+import com.ecom.monolith.exception.ApiException;
+import com.ecom.monolith.exception.GlobalExceptionHandler;
+import com.ecom.monolith.exception.ResourceNotFound;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the cost of a not-found miss: throwing ResourceNotFound from a Spring-sized call stack and handling it.
+ * Not part of the default test run; execute with {@code mvn test -Dtest=ExceptionMissPathBenchmark}
+ * and tune with -Dbenchmark.iterations and -Dbenchmark.depth.
+ */
+public class ExceptionMissPathBenchmark {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 200_000);
+    private static final int DEPTH = Integer.getInteger("benchmark.depth", 120);
+
+    // Log once per hour so the comparison is about exception cost, not console output
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(1, Duration.ofHours(1));
+
+    private long sink;
+
+    @Test
+    @DisplayName("Compare miss-path cost with and without stack traces")
+    void stackTraceVersusStackless() {
+        run(ITERATIONS / 4, true);
+        double withStack = run(ITERATIONS, true);
+
+        run(ITERATIONS / 4, false);
+        double stackless = run(ITERATIONS, false);
+
+        System.out.printf("ResourceNotFound miss path at depth %d: with stack trace %.0f ns/op, stackless %.0f ns/op (x%.1f)%n",
+                DEPTH, withStack, stackless, withStack / stackless);
+        assertThat(sink).isPositive();
+    }
+
+    private double run(int iterations, boolean traced) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            try {
+                lookup(DEPTH, i, traced);
+            } catch (ApiException ex) {
+                sink += handler.handleApiException(ex).getStatusCode().value();
+            }
+        }
+        return (System.nanoTime() - start) / (double) iterations;
+    }
+
+    private void lookup(int depth, long id, boolean traced) {
+        if (depth == 0) {
+            String message = "Resource not found with id: " + id;
+            throw traced ? new TracedNotFound(message) : new ResourceNotFound(message);
+        }
+        lookup(depth - 1, id, traced);
+    }
+
+    // Same status and code as ResourceNotFound, but always captures a stack trace
+    private static class TracedNotFound extends ApiException {
+
+        TracedNotFound(String message) {
+            super(message, HttpStatus.NOT_FOUND, "RESOURCE_NOT_FOUND", true);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.ecom.monolith.perf;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Drives a weighted mix of API calls over real HTTP from virtual-thread clients and records latency per operation.
+ * Each client owns one seeded user, so carts and orders of different clients do not interfere.
+ */
+public class LoadHarness {
+
+    public enum Operation {
+        BROWSE, SEARCH, ADD_TO_CART, PLACE_ORDER
+    }
+
+    public record Settings(int clients, Duration warmup, Duration duration, Map<Operation, Integer> mix) {
+
+        public static Settings fromSystemProperties() {
+            return new Settings(
+                    Integer.getInteger("load.clients", 32),
+                    Duration.ofSeconds(Integer.getInteger("load.warmup", 5)),
+                    Duration.ofSeconds(Integer.getInteger("load.duration", 20)),
+                    parseMix(System.getProperty("load.mix", "browse=50,search=25,add_to_cart=20,place_order=5")));
+        }
+
+        static Map<Operation, Integer> parseMix(String mix) {
+            Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+            for (String entry : mix.split(",")) {
+                String[] pair = entry.trim().split("=");
+                weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+            }
+            return weights;
+        }
+    }
+
+    static class OperationStats {
+
+        final Histogram latencyMicros = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+        final LongAdder errors = new LongAdder();
+    }
+
+    private static final String[] KEYWORDS = {"phone", "laptop", "watch", "camera", "load"};
+
+    private final URI baseUrl;
+    private final List<Long> userIds;
+    private final List<Long> productIds;
+    private final Settings settings;
+    private final HttpClient httpClient;
+    private final Operation[] wheel;
+
+    public LoadHarness(URI baseUrl, List<Long> userIds, List<Long> productIds, Settings settings) {
+        if (userIds.size() < settings.clients()) {
+            throw new IllegalArgumentException("Need at least one seeded user per client");
+        }
+        this.baseUrl = baseUrl;
+        this.userIds = userIds;
+        this.productIds = productIds;
+        this.settings = settings;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.wheel = settings.mix().entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Operation[]::new);
+    }
+
+    public LoadReport run() throws Exception {
+        return run(() -> {
+        });
+    }
+
+    public LoadReport run(Runnable beforeMeasurement) throws Exception {
+        drive(settings.warmup());
+        beforeMeasurement.run();
+        long start = System.nanoTime();
+        Map<Operation, OperationStats> stats = drive(settings.duration());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return LoadReport.from(settings, elapsed, stats);
+    }
+
+    private Map<Operation, OperationStats> drive(Duration duration) throws Exception {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < settings.clients(); i++) {
+                String userId = String.valueOf(userIds.get(i));
+                futures.add(clients.submit(() -> {
+                    boolean cartFilled = false;
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = wheel[ThreadLocalRandom.current().nextInt(wheel.length)];
+                        if (operation == Operation.PLACE_ORDER && !cartFilled) {
+                            send(addToCart(userId));
+                        }
+                        HttpRequest request = request(operation, userId);
+                        long begin = System.nanoTime();
+                        int status = send(request);
+                        OperationStats operationStats = stats.get(operation);
+                        operationStats.latencyMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin));
+                        if (status >= 400) {
+                            operationStats.errors.increment();
+                        }
+                        if (operation == Operation.ADD_TO_CART) {
+                            cartFilled = true;
+                        } else if (operation == Operation.PLACE_ORDER) {
+                            cartFilled = false;
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return stats;
+    }
+
+    private int send(HttpRequest request) throws InterruptedException {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException ex) {
+            return 599;
+        }
+    }
+
+    private HttpRequest request(Operation operation, String userId) {
+        return switch (operation) {
+            case BROWSE -> HttpRequest.newBuilder(baseUrl.resolve("/api/products/" + randomProduct())).GET().build();
+            case SEARCH -> HttpRequest.newBuilder(baseUrl.resolve("/api/products/search?keyword="
+                    + KEYWORDS[ThreadLocalRandom.current().nextInt(KEYWORDS.length)])).GET().build();
+            case ADD_TO_CART -> addToCart(userId);
+            case PLACE_ORDER -> HttpRequest.newBuilder(baseUrl.resolve("/api/orders"))
+                    .header("X-User-ID", userId)
+                    .POST(HttpRequest.BodyPublishers.noBody()).build();
+        };
+    }
+
+    private HttpRequest addToCart(String userId) {
+        String body = "{\"productId\":\"" + randomProduct() + "\",\"quantity\":1}";
+        return HttpRequest.newBuilder(baseUrl.resolve("/api/cart"))
+                .header("X-User-ID", userId)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private Long randomProduct() {
+        return productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+    }
+}
@@ -0,0 +1,62 @@
+package com.ecom.monolith.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result of a {@link LoadHarness} run; latencies are in milliseconds.
+ */
+public record LoadReport(int clients, double durationSeconds, long requests, long errors, double throughput,
+                         Latency latency, Map<String, OperationReport> operations) {
+
+    public record Latency(double p50, double p90, double p99, double p999, double max, double mean) {
+
+        static Latency of(Histogram histogram) {
+            return new Latency(millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()), millis(histogram.getMean()));
+        }
+
+        private static double millis(double micros) {
+            return Math.round(micros) / 1000.0;
+        }
+    }
+
+    public record OperationReport(long requests, long errors, double throughput, Latency latency) {
+    }
+
+    static LoadReport from(LoadHarness.Settings settings, Duration elapsed,
+                           Map<LoadHarness.Operation, LoadHarness.OperationStats> stats) {
+        double seconds = elapsed.toNanos() / 1e9;
+        Histogram total = new Histogram(3);
+        long errors = 0;
+        Map<String, OperationReport> operations = new LinkedHashMap<>();
+        for (Map.Entry<LoadHarness.Operation, LoadHarness.OperationStats> entry : stats.entrySet()) {
+            Histogram histogram = entry.getValue().latencyMicros;
+            long operationErrors = entry.getValue().errors.sum();
+            total.add(histogram);
+            errors += operationErrors;
+            operations.put(entry.getKey().name().toLowerCase(), new OperationReport(histogram.getTotalCount(),
+                    operationErrors, histogram.getTotalCount() / seconds, Latency.of(histogram)));
+        }
+        return new LoadReport(settings.clients(), seconds, total.getTotalCount(), errors,
+                total.getTotalCount() / seconds, Latency.of(total), operations);
+    }
+
+    public void writeJson(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+    }
+
+    public static LoadReport readJson(Path file) throws IOException {
+        return new ObjectMapper().readValue(file.toFile(), LoadReport.class);
+    }
+}
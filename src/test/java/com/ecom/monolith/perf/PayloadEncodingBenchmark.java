@@ -0,0 +1,93 @@
+package com.ecom.monolith.perf;
+
+import com.ecom.monolith.Dto.OrderItemResponse;
+import com.ecom.monolith.Dto.OrderResponse;
+import com.ecom.monolith.Dto.ProductDto;
+import com.ecom.monolith.model.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares payload size and encode/decode throughput of JSON, CBOR and Smile for the catalog list and an order.
+ * Not part of the default test run; execute with {@code mvn test -Dtest=PayloadEncodingBenchmark}
+ * and tune with -Dbenchmark.iterations and -Dbenchmark.products.
+ */
+public class PayloadEncodingBenchmark {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 20_000);
+    private static final int PRODUCTS = Integer.getInteger("benchmark.products", 100);
+
+    private static final Map<String, ObjectMapper> CODECS = Map.of(
+            "json", new JsonMapper(), "cbor", new CBORMapper(), "smile", new SmileMapper());
+
+    private long sink;
+
+    @Test
+    @DisplayName("Compare JSON, CBOR and Smile for List<ProductDto> and OrderResponse")
+    void compareEncodings() throws Exception {
+        List<ProductDto> catalog = IntStream.range(0, PRODUCTS).mapToObj(PayloadEncodingBenchmark::product).toList();
+        OrderResponse order = order(catalog.subList(0, Math.min(10, catalog.size())));
+
+        for (String codec : List.of("json", "cbor", "smile")) {
+            ObjectMapper mapper = CODECS.get(codec);
+            report(codec, "List<ProductDto>", mapper, catalog, ProductDto[].class);
+            report(codec, "OrderResponse", mapper, order, OrderResponse.class);
+        }
+        assertThat(sink).isPositive();
+    }
+
+    private void report(String codec, String payload, ObjectMapper mapper, Object value, Class<?> type) throws Exception {
+        byte[] bytes = mapper.writeValueAsBytes(value);
+        run(mapper, value, bytes, type, ITERATIONS / 4);
+        long start = System.nanoTime();
+        run(mapper, value, bytes, type, ITERATIONS);
+        double nanosPerOp = (System.nanoTime() - start) / (double) ITERATIONS;
+        System.out.printf("%-5s %-16s %7d bytes  %8.0f ns encode+decode  %8.0f ops/s%n",
+                codec, payload, bytes.length, nanosPerOp, 1e9 / nanosPerOp);
+    }
+
+    private void run(ObjectMapper mapper, Object value, byte[] bytes, Class<?> type, int iterations) throws Exception {
+        for (int i = 0; i < iterations; i++) {
+            sink += mapper.writeValueAsBytes(value).length;
+            sink += mapper.readValue(bytes, type).hashCode() & 1;
+        }
+    }
+
+    private static ProductDto product(int i) {
+        ProductDto product = new ProductDto();
+        product.setId((long) i);
+        product.setName("product " + i);
+        product.setDescription("description of product " + i + " with a few more words of marketing copy");
+        product.setPrice(BigDecimal.valueOf(10 + i % 90, 2));
+        product.setStockQuantity(100 + i);
+        product.setCategory("Electronic");
+        product.setImageUrl("https://cdn.example.com/products/" + i + ".png");
+        return product;
+    }
+
+    private static OrderResponse order(List<ProductDto> products) {
+        OrderResponse order = new OrderResponse();
+        order.setId(42L);
+        order.setStatus(OrderStatus.ORDERED);
+        order.setTotalAmount(BigDecimal.valueOf(12345, 2));
+        for (ProductDto product : products) {
+            OrderItemResponse item = new OrderItemResponse();
+            item.setProductId(product.getId());
+            item.setQuantity(2);
+            item.setPrice(product.getPrice());
+            order.getItems().add(item);
+        }
+        return order;
+    }
+}
@@ -0,0 +1,62 @@
+package com.ecom.monolith.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checked-in reference numbers for the perf scenario and how far a run may drift from them.
+ * Tolerances are fractions of the baseline value, e.g. 0.25 allows a 25% regression.
+ */
+public record PerfBaseline(Metrics metrics, Metrics tolerance) {
+
+    public record Metrics(double throughput, double p99Millis, double placeOrderP99Millis,
+                          double allocatedBytesPerRequest, double statementsPerRequest) {
+    }
+
+    public List<String> regressions(Metrics measured) {
+        List<String> regressions = new ArrayList<>();
+        lowerIsWorse(regressions, "throughput", metrics.throughput(), measured.throughput(), tolerance.throughput());
+        higherIsWorse(regressions, "p99Millis", metrics.p99Millis(), measured.p99Millis(), tolerance.p99Millis());
+        higherIsWorse(regressions, "placeOrderP99Millis", metrics.placeOrderP99Millis(), measured.placeOrderP99Millis(),
+                tolerance.placeOrderP99Millis());
+        higherIsWorse(regressions, "allocatedBytesPerRequest", metrics.allocatedBytesPerRequest(),
+                measured.allocatedBytesPerRequest(), tolerance.allocatedBytesPerRequest());
+        higherIsWorse(regressions, "statementsPerRequest", metrics.statementsPerRequest(), measured.statementsPerRequest(),
+                tolerance.statementsPerRequest());
+        return regressions;
+    }
+
+    public PerfBaseline withMetrics(Metrics measured) {
+        return new PerfBaseline(measured, tolerance);
+    }
+
+    public static PerfBaseline read(InputStream in) throws IOException {
+        return new ObjectMapper().readValue(in, PerfBaseline.class);
+    }
+
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+    }
+
+    private static void lowerIsWorse(List<String> regressions, String name, double baseline, double measured, double tolerance) {
+        double limit = baseline * (1 - tolerance);
+        if (measured < limit) {
+            regressions.add(String.format("%s %.2f is below %.2f (baseline %.2f - %.0f%%)", name, measured, limit, baseline, tolerance * 100));
+        }
+    }
+
+    private static void higherIsWorse(List<String> regressions, String name, double baseline, double measured, double tolerance) {
+        double limit = baseline * (1 + tolerance);
+        if (measured > limit) {
+            regressions.add(String.format("%s %.2f is above %.2f (baseline %.2f + %.0f%%)", name, measured, limit, baseline, tolerance * 100));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecom.monolith.perf;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the PerfBaseline class.
+ * This class verifies the tolerance bands applied to each perf metric.
+ */
+public class PerfBaselineTest {
+
+    private final PerfBaseline baseline = new PerfBaseline(
+            new PerfBaseline.Metrics(100, 50, 80, 10_000, 2),
+            new PerfBaseline.Metrics(0.2, 0.5, 0.5, 0.25, 0.1));
+
+    @Test
+    @DisplayName("Verify measurements inside the tolerance bands pass")
+    void regressions_withinTolerance() {
+        assertThat(baseline.regressions(new PerfBaseline.Metrics(85, 70, 110, 12_000, 2.1))).isEmpty();
+        assertThat(baseline.regressions(new PerfBaseline.Metrics(300, 10, 10, 1_000, 1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verify each metric is reported when it regresses beyond its tolerance")
+    void regressions_outsideTolerance() {
+        assertThat(baseline.regressions(new PerfBaseline.Metrics(79, 76, 121, 12_600, 2.3)))
+                .hasSize(5)
+                .anySatisfy(message -> assertThat(message).startsWith("throughput 79.00 is below 80.00"))
+                .anySatisfy(message -> assertThat(message).startsWith("statementsPerRequest 2.30 is above 2.20"));
+    }
+
+    @Test
+    @DisplayName("Verify the checked-in baseline can be read")
+    void read_checkedInBaseline() throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/perf/baseline.json")) {
+            PerfBaseline checkedIn = PerfBaseline.read(in);
+
+            assertThat(checkedIn.metrics().throughput()).isPositive();
+            assertThat(checkedIn.tolerance().statementsPerRequest()).isPositive();
+        }
+    }
+}
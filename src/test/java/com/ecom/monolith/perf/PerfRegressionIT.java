@@ -0,0 +1,92 @@
+package com.ecom.monolith.perf;
+
+import com.ecom.monolith.repositories.ProductRepository;
+import com.ecom.monolith.repositories.UsersRepository;
+import com.sun.management.ThreadMXBean;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs a fixed load scenario and fails when it regresses against src/test/resources/perf/baseline.json.
+ * Only runs in the perf profile: {@code mvn verify -Pperf}; add -Dperf.updateBaseline=true to record a new baseline.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class PerfRegressionIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(PerfRegressionIT.class);
+
+    private static final String BASELINE = "/perf/baseline.json";
+
+    private static final LoadHarness.Settings SCENARIO = new LoadHarness.Settings(16, Duration.ofSeconds(5), Duration.ofSeconds(15),
+            Map.of(LoadHarness.Operation.BROWSE, 50, LoadHarness.Operation.SEARCH, 25,
+                    LoadHarness.Operation.ADD_TO_CART, 20, LoadHarness.Operation.PLACE_ORDER, 5));
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    UsersRepository usersRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Verify the fixed load scenario stays within the baseline tolerance bands")
+    void scenario_withinBaseline() throws Exception {
+        List<Long> userIds = ApiLoadBenchmark.seedUsers(usersRepository, 100);
+        List<Long> productIds = ApiLoadBenchmark.seedProducts(productRepository, 200);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] allocatedBefore = new long[1];
+
+        LoadReport report = new LoadHarness(URI.create("http://localhost:" + port), userIds, productIds, SCENARIO).run(() -> {
+            statistics.clear();
+            allocatedBefore[0] = threads.getTotalThreadAllocatedBytes();
+        });
+        long allocated = threads.getTotalThreadAllocatedBytes() - allocatedBefore[0];
+
+        PerfBaseline.Metrics measured = new PerfBaseline.Metrics(
+                report.throughput(),
+                report.latency().p99(),
+                report.operations().get("place_order").latency().p99(),
+                (double) allocated / report.requests(),
+                (double) statistics.getPrepareStatementCount() / report.requests());
+        report.writeJson(Path.of("target/perf/perf-report.json"));
+        logger.info("Perf scenario: {}", measured);
+
+        PerfBaseline baseline;
+        try (InputStream in = getClass().getResourceAsStream(BASELINE)) {
+            baseline = PerfBaseline.read(in);
+        }
+        if (Boolean.getBoolean("perf.updateBaseline")) {
+            baseline.withMetrics(measured).write(Path.of("src/test/resources" + BASELINE));
+            return;
+        }
+
+        assertThat(report.errors()).isZero();
+        assertThat(baseline.regressions(measured)).isEmpty();
+    }
+}
@@ -0,0 +1,99 @@
+package com.ecom.monolith.perf;
+
+import com.ecom.monolith.model.Product;
+import com.ecom.monolith.repositories.ProductRepository;
+import com.ecom.monolith.service.StockService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency benchmark comparing a single stock row against sharded stock counters for one hot product.
+ * Not part of the default test run; execute with {@code mvn test -Dtest=StockContentionBenchmark}
+ * and tune with -Dbenchmark.threads, -Dbenchmark.duration (seconds) and -Dbenchmark.shards.
+ */
+@SpringBootTest
+public class StockContentionBenchmark {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("benchmark.duration", 5));
+    private static final int SHARDS = Integer.getInteger("benchmark.shards", 16);
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    StockService stockService;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Compare order-decrement throughput of single-row and sharded stock")
+    void singleRowVersusSharded() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Long singleRowId = productRepository.save(product("single row")).getId();
+        Long shardedId = productRepository.save(product("sharded")).getId();
+        transactionTemplate.executeWithoutResult(status ->
+                stockService.shardStock(productRepository.findById(shardedId).orElseThrow(), SHARDS));
+
+        run(transactionTemplate, singleRowId, Duration.ofSeconds(1));
+        run(transactionTemplate, shardedId, Duration.ofSeconds(1));
+
+        double singleRow = run(transactionTemplate, singleRowId, DURATION);
+        double sharded = run(transactionTemplate, shardedId, DURATION);
+
+        System.out.printf("Stock decrement throughput with %d threads: single row %.0f ops/s, %d shards %.0f ops/s (x%.2f)%n",
+                THREADS, singleRow, SHARDS, sharded, sharded / singleRow);
+        assertThat(singleRow).isPositive();
+        assertThat(sharded).isPositive();
+    }
+
+    private double run(TransactionTemplate transactionTemplate, Long productId, Duration duration) throws Exception {
+        LongAdder operations = new LongAdder();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                workers.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        transactionTemplate.executeWithoutResult(status ->
+                                stockService.decrementStock(productRepository.findById(productId).orElseThrow(), 1));
+                        operations.increment();
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+        return operations.sum() / (duration.toNanos() / 1e9);
+    }
+
+    private Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setDescription(name);
+        product.setPrice(BigDecimal.TEN);
+        product.setActive(true);
+        product.setStockQuantity(10_000_000);
+        product.setCategory("Benchmark");
+        return product;
+    }
+}
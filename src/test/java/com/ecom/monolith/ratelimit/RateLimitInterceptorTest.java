@@ -0,0 +1,65 @@
+package com.ecom.monolith.ratelimit;
+
+import com.ecom.monolith.config.RateLimitConfig;
+import com.ecom.monolith.controller.CartController;
+import com.ecom.monolith.service.CartItemService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for the RateLimitInterceptor class.
+ * This class uses Spring's WebMvcTest with the rate limit configuration to verify 429 responses per caller.
+ */
+@WebMvcTest(CartController.class)
+@Import(RateLimitConfig.class)
+@TestPropertySource(properties = {
+        "app.rate-limit.enabled=true",
+        "app.rate-limit.policies.cart.capacity=2",
+        "app.rate-limit.policies.cart.refill-per-second=0.1"
+})
+public class RateLimitInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CartItemService cartItemService;
+
+    @Test
+    @DisplayName("Should return HTTP 429 with Retry-After once a user exhausts the cart bucket")
+    void getCart_overLimit_tooManyRequests() throws Exception {
+        when(cartItemService.getCartItems("1")).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/cart").header("X-User-ID", "1")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/cart").header("X-User-ID", "1")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/cart").header("X-User-ID", "1"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "10"))
+                .andExpect(jsonPath("$.errorCode").value("RATE_LIMITED"));
+    }
+
+    @Test
+    @DisplayName("Should return HTTP 200 for another user while one user is throttled")
+    void getCart_otherUser_ok() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/cart").header("X-User-ID", "2"));
+        }
+
+        mockMvc.perform(get("/api/cart").header("X-User-ID", "3")).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,105 @@
+package com.ecom.monolith.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the TokenBucketRateLimiter class.
+ * This class verifies burst capacity, refill timing, per-key isolation and the bounded key map.
+ */
+public class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    @DisplayName("Verify a full bucket allows capacity requests back to back and then reports the wait")
+    void tryAcquire_burstThenWait() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100, clock::get);
+        RateLimitProperties.Policy policy = policy(3, 2);
+
+        assertThat(limiter.tryAcquire("user-1", policy)).isZero();
+        assertThat(limiter.tryAcquire("user-1", policy)).isZero();
+        assertThat(limiter.tryAcquire("user-1", policy)).isZero();
+
+        assertThat(limiter.tryAcquire("user-1", policy)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    @DisplayName("Verify tokens refill at the configured rate")
+    void tryAcquire_refills() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100, clock::get);
+        RateLimitProperties.Policy policy = policy(1, 4);
+
+        assertThat(limiter.tryAcquire("user-1", policy)).isZero();
+        assertThat(limiter.tryAcquire("user-1", policy)).isPositive();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+
+        assertThat(limiter.tryAcquire("user-1", policy)).isZero();
+    }
+
+    @Test
+    @DisplayName("Verify rejected requests do not consume tokens")
+    void tryAcquire_rejectedDoesNotConsume() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100, clock::get);
+        RateLimitProperties.Policy policy = policy(1, 1);
+
+        limiter.tryAcquire("user-1", policy);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("user-1", policy);
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(limiter.tryAcquire("user-1", policy)).isZero();
+    }
+
+    @Test
+    @DisplayName("Verify each key has its own bucket")
+    void tryAcquire_keysIsolated() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100, clock::get);
+        RateLimitProperties.Policy policy = policy(1, 1);
+
+        assertThat(limiter.tryAcquire("user-1", policy)).isZero();
+        assertThat(limiter.tryAcquire("user-1", policy)).isPositive();
+        assertThat(limiter.tryAcquire("user-2", policy)).isZero();
+    }
+
+    @Test
+    @DisplayName("Verify evictIdle drops only keys whose bucket has refilled")
+    void evictIdle_dropsRefilledKeys() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100, clock::get);
+        limiter.tryAcquire("slow", policy(1, 1));
+        limiter.tryAcquire("fast", policy(1, 10));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        limiter.evictIdle();
+
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("slow", policy(1, 1))).isPositive();
+    }
+
+    @Test
+    @DisplayName("Verify the number of tracked keys never exceeds maxKeys")
+    void tryAcquire_boundedKeys() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1_000, clock::get);
+        RateLimitProperties.Policy policy = policy(1, 0.01);
+
+        for (int i = 0; i < 50_000; i++) {
+            limiter.tryAcquire("user-" + i, policy);
+        }
+
+        assertThat(limiter.size()).isLessThanOrEqualTo(1_000);
+    }
+
+    private static RateLimitProperties.Policy policy(int capacity, double refillPerSecond) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setCapacity(capacity);
+        policy.setRefillPerSecond(refillPerSecond);
+        return policy;
+    }
+}
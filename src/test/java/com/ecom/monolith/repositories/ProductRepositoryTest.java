@@ -1,11 +1,17 @@
 package com.ecom.monolith.repositories;
 
+import com.ecom.monolith.model.Order;
+import com.ecom.monolith.model.OrderItem;
+import com.ecom.monolith.model.OrderStatus;
 import com.ecom.monolith.model.Product;
+import com.ecom.monolith.model.Users;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
@@ -25,6 +31,9 @@ public class ProductRepositoryTest {
     @Autowired
     ProductRepository productRepository;
 
+    @Autowired
+    TestEntityManager entityManager;
+
     @Test
     @DisplayName("Verify findByActiveTrue returns only active products")
     void findByActiveTrue_active() {
@@ -57,6 +66,63 @@ public class ProductRepositoryTest {
         assertThat(returnedProducts).allMatch(product -> Boolean.TRUE.equals(product.getActive()));
     }
 
+    @Test
+    @DisplayName("Verify findAllInRequestOrder keeps the order of the ids and returns null for unknown ids")
+    void findAllInRequestOrder_requestOrder() {
+        Product product1 = product("iphone 15", "iphone 15", BigDecimal.valueOf(1300), true, 10);
+        Product product2 = product("iphone 16", "iphone 16", BigDecimal.valueOf(1500), true, 10);
+        productRepository.saveAll(List.of(product1, product2));
+        productRepository.flush();
+        entityManager.clear();
+
+        List<Product> products = productRepository.findAllInRequestOrder(
+                List.of(product2.getId(), -1L, product1.getId()));
+
+        assertThat(products).hasSize(3);
+        assertThat(products.get(0).getName()).isEqualTo("iphone 16");
+        assertThat(products.get(1)).isNull();
+        assertThat(products.get(2).getName()).isEqualTo("iphone 15");
+    }
+
+    @Test
+    @DisplayName("Verify findTopSellingIds orders active products by quantity sold")
+    void findTopSellingIds_byQuantity() {
+        Product phone = product("iphone 15", "iphone 15", BigDecimal.valueOf(1300), true, 10);
+        Product laptop = product("macbook", "macbook", BigDecimal.valueOf(2000), true, 10);
+        Product retired = product("iphone 12", "iphone 12", BigDecimal.valueOf(500), false, 10);
+        Product unsold = product("ipad", "ipad", BigDecimal.valueOf(800), true, 10);
+        productRepository.saveAll(List.of(phone, laptop, retired, unsold));
+
+        Users user = new Users();
+        user.setFirstName("Jane");
+        user.setLastName("Smith");
+        user.setEmail("jane@example.com");
+        user.setPhone("1234567890");
+        entityManager.persist(user);
+        Order order = new Order();
+        order.setUsers(user);
+        order.setStatus(OrderStatus.ORDERED);
+        order.setTotalAmount(BigDecimal.ZERO);
+        order.getItems().add(orderItem(order, phone, 1));
+        order.getItems().add(orderItem(order, laptop, 3));
+        order.getItems().add(orderItem(order, retired, 9));
+        order.getItems().add(orderItem(order, phone, 1));
+        entityManager.persist(order);
+        entityManager.flush();
+
+        assertThat(productRepository.findTopSellingIds(PageRequest.of(0, 10))).containsExactly(laptop.getId(), phone.getId());
+        assertThat(productRepository.findTopSellingIds(PageRequest.of(0, 1))).containsExactly(laptop.getId());
+    }
+
+    private OrderItem orderItem(Order order, Product product, int quantity) {
+        OrderItem item = new OrderItem();
+        item.setOrder(order);
+        item.setProduct(product);
+        item.setQuantity(quantity);
+        item.setPrice(product.getPrice());
+        return item;
+    }
+
     private Product product(String name, String description, BigDecimal price, boolean active, Integer stock) {
         Product product = new Product();
         product.setName(name);
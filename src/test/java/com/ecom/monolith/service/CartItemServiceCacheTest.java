@@ -0,0 +1,151 @@
+package com.ecom.monolith.service;
+
+import com.ecom.monolith.Dto.CartRequest;
+import com.ecom.monolith.model.Product;
+import com.ecom.monolith.model.Users;
+import com.ecom.monolith.repositories.CartItemRepository;
+import com.ecom.monolith.repositories.ProductRepository;
+import com.ecom.monolith.repositories.UsersRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the second-level cache on the cart path.
+ * This class verifies that repeat addCartItem calls read Product and Users from the cache instead of the database.
+ */
+@SpringBootTest
+public class CartItemServiceCacheTest {
+
+    @Autowired
+    CartItemService cartItemService;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    UsersRepository usersRepository;
+
+    @Autowired
+    CartItemRepository cartItemRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    private Product product;
+
+    private Users user;
+
+    @BeforeEach
+    void setUp() {
+        product = productRepository.save(product("iphone 15", BigDecimal.valueOf(1300), 100));
+        user = usersRepository.save(user("Jane", "Smith", "jane@example.com"));
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cartItemRepository.deleteAll();
+        usersRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Verify repeat addCartItem for the same product is served from the second-level cache")
+    void addCartItem_repeatProduct_servedFromCache() {
+        cartItemService.addCartItem(String.valueOf(user.getId()), cartRequest(product.getId(), 1));
+
+        CacheRegionStatistics productRegion = statistics.getDomainDataRegionStatistics(Product.class.getName());
+        CacheRegionStatistics usersRegion = statistics.getDomainDataRegionStatistics(Users.class.getName());
+        long productMisses = productRegion.getMissCount();
+        long userMisses = usersRegion.getMissCount();
+        assertThat(productMisses).isEqualTo(1);
+        assertThat(userMisses).isEqualTo(1);
+
+        cartItemService.addCartItem(String.valueOf(user.getId()), cartRequest(product.getId(), 2));
+        cartItemService.addCartItem(String.valueOf(user.getId()), cartRequest(product.getId(), 3));
+
+        assertThat(productRegion.getMissCount()).isEqualTo(productMisses);
+        assertThat(usersRegion.getMissCount()).isEqualTo(userMisses);
+        assertThat(productRegion.getHitCount()).isGreaterThanOrEqualTo(2);
+        assertThat(usersRegion.getHitCount()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Verify product updates are visible through the second-level cache")
+    void updateProduct_refreshesCachedEntry() {
+        cartItemService.addCartItem(String.valueOf(user.getId()), cartRequest(product.getId(), 1));
+
+        Product cached = productRepository.findById(product.getId()).orElseThrow();
+        cached.setPrice(BigDecimal.valueOf(999));
+        productRepository.save(cached);
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getPrice())
+                .isEqualByComparingTo("999");
+        assertThat(statistics.getEntityStatistics(Product.class.getName()).getLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Verify cache region statistics are published as metrics")
+    void cacheRegionStatistics_publishedAsMetrics() {
+        cartItemService.addCartItem(String.valueOf(user.getId()), cartRequest(product.getId(), 1));
+        cartItemService.addCartItem(String.valueOf(user.getId()), cartRequest(product.getId(), 1));
+
+        FunctionCounter hits = meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", Product.class.getName())
+                .tag("result", "hit")
+                .functionCounter();
+
+        assertThat(hits).isNotNull();
+        assertThat(hits.count()).isPositive();
+    }
+
+    private Product product(String name, BigDecimal price, int stock) {
+        Product product = new Product();
+        product.setName(name);
+        product.setDescription(name);
+        product.setPrice(price);
+        product.setActive(true);
+        product.setStockQuantity(stock);
+        product.setCategory("Electronic");
+        return product;
+    }
+
+    private Users user(String firstName, String lastName, String email) {
+        Users user = new Users();
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEmail(email);
+        user.setPhone("1234567890");
+        return user;
+    }
+
+    private CartRequest cartRequest(Long productId, int quantity) {
+        CartRequest cartRequest = new CartRequest();
+        cartRequest.setProductId(String.valueOf(productId));
+        cartRequest.setQuantity(quantity);
+        return cartRequest;
+    }
+}
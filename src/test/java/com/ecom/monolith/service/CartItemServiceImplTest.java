@@ -1,5 +1,6 @@
 package com.ecom.monolith.service;
 
+import com.ecom.monolith.Dto.CartLineResult;
 import com.ecom.monolith.Dto.CartRequest;
 import com.ecom.monolith.Dto.CartResponse;
 import com.ecom.monolith.Mapper.CartMapper;
@@ -17,11 +18,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Unit tests for the CartItemServiceImpl class.
@@ -42,6 +45,9 @@ public class CartItemServiceImplTest {
     @Mock
     CartMapper cartMapper;
 
+    @Mock
+    StockReservationService stockReservationService;
+
     @InjectMocks
     CartItemServiceImpl cartItemService;
 
@@ -68,6 +74,7 @@ public class CartItemServiceImplTest {
         CartRequest cartRequest = createCartRequest(String.valueOf(id), 15);
         Product product1 = product(1L, "iphone 15", "iphone 15", BigDecimal.valueOf(1300), true, 10);
         when(productRepository.findById(id)).thenReturn(Optional.of(product1));
+        when(stockReservationService.reserve(String.valueOf(id), product1, 15)).thenReturn(false);
 
         assertThat(cartItemService.addCartItem(String.valueOf(id), cartRequest)).isFalse();
 
@@ -82,12 +89,16 @@ public class CartItemServiceImplTest {
         CartRequest cartRequest = createCartRequest(String.valueOf(id), 15);
         Product product1 = product(1L, "iphone 15", "iphone 15", BigDecimal.valueOf(1300), true, 20);
         when(productRepository.findById(id)).thenReturn(Optional.of(product1));
+        when(stockReservationService.reserve(String.valueOf(id), product1, 15)).thenReturn(true);
         when(usersRepository.findById(id)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> cartItemService.addCartItem(String.valueOf(id), cartRequest))
                 .isInstanceOf(ResourceNotFound.class)
                 .hasMessageContaining("User does not exist with id: " + id);
 
+        // The hold is given back by the reservation service when the transaction rolls back
+        verify(stockReservationService, never()).release(anyString(), anyLong(), anyInt());
+
         verify(productRepository).findById(id);
         verify(usersRepository).findById(id);
         verifyNoMoreInteractions(productRepository, usersRepository);
@@ -105,6 +116,7 @@ public class CartItemServiceImplTest {
         );
         CartItem cartItem1 = createCartItem(id, user1, product1, 5, BigDecimal.valueOf(6500));
         when(productRepository.findById(id)).thenReturn(Optional.of(product1));
+        when(stockReservationService.reserve(String.valueOf(id), product1, 15)).thenReturn(true);
         when(usersRepository.findById(id)).thenReturn(Optional.of(user1));
         when(cartItemRepository.findByUsersAndProduct(user1, product1)).thenReturn(Optional.of(cartItem1));
         when(cartItemRepository.save(any(CartItem.class))).thenAnswer(
@@ -139,6 +151,7 @@ public class CartItemServiceImplTest {
                 createAddress(10L, "221B Baker St", "London", "Greater London", "UK", "NW1")
         );
         when(productRepository.findById(id)).thenReturn(Optional.of(product1));
+        when(stockReservationService.reserve(String.valueOf(id), product1, 15)).thenReturn(true);
         when(usersRepository.findById(id)).thenReturn(Optional.of(user1));
         when(cartItemRepository.findByUsersAndProduct(user1, product1)).thenReturn(Optional.empty());
         when(cartItemRepository.save(any(CartItem.class))).thenAnswer(
@@ -163,6 +176,86 @@ public class CartItemServiceImplTest {
         verifyNoMoreInteractions(productRepository, usersRepository, cartItemRepository);
     }
 
+    @Test
+    @DisplayName("Verify addCartItems loads everything once, saves all changed rows together and reports each line")
+    void addCartItems_mixedLines() {
+        Users user1 = createUser(id, "Jane", "Smith", "jane@example.com", "1234567890", UserRole.CUSTOMER, null);
+        Product existing = product(1L, "iphone 15", "iphone 15", BigDecimal.valueOf(1300), true, 20);
+        Product fresh = product(2L, "pixel 9", "pixel 9", BigDecimal.valueOf(900), true, 20);
+        Product soldOut = product(3L, "galaxy", "galaxy", BigDecimal.valueOf(800), true, 0);
+        CartItem existingItem = createCartItem(10L, user1, existing, 1, BigDecimal.valueOf(1300));
+        List<CartRequest> lines = List.of(createCartRequest("1", 2), createCartRequest("2", 1), createCartRequest("3", 1),
+                createCartRequest("99", 1), createCartRequest("2", 3));
+
+        when(usersRepository.findById(id)).thenReturn(Optional.of(user1));
+        when(productRepository.findAllById(Set.of(1L, 2L, 3L, 99L))).thenReturn(List.of(existing, fresh, soldOut));
+        when(cartItemRepository.findByUsersIdAndProductIdIn(id, Set.of(1L, 2L, 3L, 99L))).thenReturn(List.of(existingItem));
+        when(stockReservationService.reserve(eq(String.valueOf(id)), any(Product.class), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(1, Product.class) != soldOut);
+
+        List<CartLineResult> results = cartItemService.addCartItems(String.valueOf(id), lines);
+
+        assertThat(results).extracting(CartLineResult::getStatus).containsExactly(
+                CartLineResult.Status.UPDATED, CartLineResult.Status.ADDED, CartLineResult.Status.OUT_OF_STOCK,
+                CartLineResult.Status.NOT_FOUND, CartLineResult.Status.UPDATED);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<CartItem>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(cartItemRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(CartItem::getQuantity).containsExactly(3, 4);
+        assertThat(captor.getValue()).extracting(CartItem::getPrice)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(BigDecimal.valueOf(3900), BigDecimal.valueOf(3600));
+
+        verify(usersRepository).findById(id);
+        verify(productRepository).findAllById(Set.of(1L, 2L, 3L, 99L));
+        verify(cartItemRepository).findByUsersIdAndProductIdIn(id, Set.of(1L, 2L, 3L, 99L));
+        verifyNoMoreInteractions(productRepository, usersRepository, cartItemRepository);
+    }
+
+    @Test
+    @DisplayName("Verify addCartItems throws exception when user is not found before reserving any stock")
+    void addCartItems_UserNotFound() {
+        when(usersRepository.findById(id)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> cartItemService.addCartItems(String.valueOf(id), List.of(createCartRequest("1", 1))))
+                .isInstanceOf(ResourceNotFound.class)
+                .hasMessageContaining("User does not exist with id: " + id);
+
+        verifyNoInteractions(productRepository, cartItemRepository, stockReservationService);
+    }
+
+    @Test
+    @DisplayName("Verify addCartItems leaves reserved stock to the rollback when the cart rows cannot be saved")
+    void addCartItems_saveFails_releasesOnRollback() {
+        Users user1 = createUser(id, "Jane", "Smith", "jane@example.com", "1234567890", UserRole.CUSTOMER, null);
+        Product product1 = product(1L, "iphone 15", "iphone 15", BigDecimal.valueOf(1300), true, 20);
+        when(usersRepository.findById(id)).thenReturn(Optional.of(user1));
+        when(productRepository.findAllById(Set.of(1L))).thenReturn(List.of(product1));
+        when(cartItemRepository.findByUsersIdAndProductIdIn(id, Set.of(1L))).thenReturn(List.of());
+        when(stockReservationService.reserve(String.valueOf(id), product1, 1)).thenReturn(true);
+        when(cartItemRepository.saveAll(anyCollection())).thenThrow(new IllegalStateException("constraint"));
+
+        assertThatThrownBy(() -> cartItemService.addCartItems(String.valueOf(id),
+                List.of(createCartRequest("1", 1), createCartRequest("1", 1))))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(stockReservationService, times(2)).reserve(String.valueOf(id), product1, 1);
+        verify(stockReservationService, never()).release(anyString(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Verify addCartItems skips the product and cart lookups when no line has a valid product id")
+    void addCartItems_noValidIds_skipsLookups() {
+        Users user1 = createUser(id, "Jane", "Smith", "jane@example.com", "1234567890", UserRole.CUSTOMER, null);
+        when(usersRepository.findById(id)).thenReturn(Optional.of(user1));
+
+        List<CartLineResult> results = cartItemService.addCartItems(String.valueOf(id), List.of(createCartRequest("abc", 1)));
+
+        assertThat(results).extracting(CartLineResult::getStatus).containsExactly(CartLineResult.Status.NOT_FOUND);
+        verifyNoInteractions(productRepository, cartItemRepository, stockReservationService);
+    }
+
     @Test
     @DisplayName("Verify removeItem throws exception when product is not found")
     void removeItem_ProductNotFound() {
@@ -237,6 +330,7 @@ public class CartItemServiceImplTest {
         verify(usersRepository).findById(id);
         verify(cartItemRepository).findByUsersAndProduct(user1, product1);
         verify(cartItemRepository).delete(any(CartItem.class));
+        verify(stockReservationService).releaseAll(String.valueOf(id), id);
         verifyNoMoreInteractions(productRepository, usersRepository, cartItemRepository);
     }
 
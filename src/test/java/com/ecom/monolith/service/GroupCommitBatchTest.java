@@ -0,0 +1,166 @@
+package com.ecom.monolith.service;
+
+import com.ecom.monolith.Dto.OrderResponse;
+import com.ecom.monolith.exception.InsufficientStock;
+import com.ecom.monolith.model.CartItem;
+import com.ecom.monolith.model.Product;
+import com.ecom.monolith.model.Users;
+import com.ecom.monolith.repositories.CartItemRepository;
+import com.ecom.monolith.repositories.OrderRepository;
+import com.ecom.monolith.repositories.ProductRepository;
+import com.ecom.monolith.repositories.ProductStockShardRepository;
+import com.ecom.monolith.repositories.UsersRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for the GroupCommitOrderService class.
+ * This class verifies that orders sharing one batch transaction on a real database see each other's stock changes
+ * and that a failing order is rolled back to its savepoint without taking the batch with it.
+ */
+@ExtendWith(OutputCaptureExtension.class)
+@SpringBootTest(properties = {
+        "app.orders.group-commit.enabled=true",
+        "app.orders.group-commit.max-batch-size=3",
+        "app.orders.group-commit.max-wait=5s"
+})
+public class GroupCommitBatchTest {
+
+    // The stale-shard case depends on which shard each order picks at random, so give it several chances to show
+    private static final int ROUNDS = 12;
+
+    @Autowired
+    GroupCommitOrderService groupCommitOrderService;
+
+    @Autowired
+    StockService stockService;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductStockShardRepository shardRepository;
+
+    @Autowired
+    UsersRepository usersRepository;
+
+    @Autowired
+    CartItemRepository cartItemRepository;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        orderRepository.deleteAll();
+        cartItemRepository.deleteAll();
+        shardRepository.deleteAll();
+        productRepository.deleteAll();
+        usersRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Verify sharded stock sold by several orders of one batch ends at exactly zero")
+    void placeOrder_shardedBatch_keepsShardsConsistent() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            Product product = shardedProduct(6, 2);
+            // The first order exhausts a shard and loads all shards into the shared persistence context
+            List<Users> users = List.of(userWithCart(round, 0, product, 4), userWithCart(round, 1, product, 1),
+                    userWithCart(round, 2, product, 1));
+
+            List<Future<OrderResponse>> results = new ArrayList<>();
+            for (Users user : users) {
+                results.add(executor.submit(() -> groupCommitOrderService.placeOrder(user.getId().toString())));
+                // Keep queue order, so the rebalancing order is placed first within the batch
+                Thread.sleep(50);
+            }
+            for (Future<OrderResponse> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS).getId()).isNotNull();
+            }
+
+            assertThat(shardRepository.sumQuantity(product.getId())).as("shard stock after round %d", round).isZero();
+            assertThat(stockService.shardTotals(List.of(product.getId()))).containsEntry(product.getId(), 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify a sold-out order is rolled back alone while the rest of its batch commits together")
+    void placeOrder_soldOutInBatch_othersCommit(CapturedOutput output) throws Exception {
+        Product product = productRepository.save(product(2));
+        List<Users> users = List.of(userWithCart(0, 0, product, 1), userWithCart(0, 1, product, 5),
+                userWithCart(0, 2, product, 1));
+
+        List<Future<OrderResponse>> results = new ArrayList<>();
+        for (Users user : users) {
+            results.add(executor.submit(() -> groupCommitOrderService.placeOrder(user.getId().toString())));
+        }
+
+        assertThat(results.get(0).get(10, TimeUnit.SECONDS).getId()).isNotNull();
+        assertThat(results.get(2).get(10, TimeUnit.SECONDS).getId()).isNotNull();
+        assertThatThrownBy(() -> results.get(1).get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(InsufficientStock.class);
+        assertThat(orderRepository.count()).isEqualTo(2);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isZero();
+        assertThat(cartItemRepository.findByUsersId(users.get(1).getId())).hasSize(1);
+        assertThat(output).doesNotContain("placing them individually");
+    }
+
+    private Product shardedProduct(int stock, int shards) {
+        Long productId = productRepository.save(product(stock)).getId();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                stockService.shardStock(productRepository.findById(productId).orElseThrow(), shards));
+        return productRepository.findById(productId).orElseThrow();
+    }
+
+    private Product product(int stock) {
+        Product product = new Product();
+        product.setName("iphone 15");
+        product.setDescription("iphone 15");
+        product.setPrice(BigDecimal.valueOf(100));
+        product.setActive(true);
+        product.setStockQuantity(stock);
+        product.setCategory("Electronic");
+        return product;
+    }
+
+    private Users userWithCart(int round, int index, Product product, int quantity) {
+        Users user = new Users();
+        user.setFirstName("Jane");
+        user.setLastName("Smith");
+        user.setEmail("jane" + round + "-" + index + "@example.com");
+        user.setPhone("1234567890");
+        user = usersRepository.save(user);
+
+        CartItem cartItem = new CartItem();
+        cartItem.setUsers(user);
+        cartItem.setProduct(product);
+        cartItem.setQuantity(quantity);
+        cartItem.setPrice(product.getPrice().multiply(BigDecimal.valueOf(quantity)));
+        cartItemRepository.save(cartItem);
+        return user;
+    }
+}
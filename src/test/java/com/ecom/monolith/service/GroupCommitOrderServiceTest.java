@@ -0,0 +1,220 @@
+package com.ecom.monolith.service;
+
+import com.ecom.monolith.Dto.OrderResponse;
+import com.ecom.monolith.exception.ResourceNotFound;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.jdbc.ReturningWork;
+import org.hibernate.jdbc.Work;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionSystemException;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the GroupCommitOrderService class.
+ * This class verifies that concurrent placements share a transaction and that failures stay isolated behind savepoints.
+ */
+@ExtendWith(MockitoExtension.class)
+public class GroupCommitOrderServiceTest {
+
+    @Mock
+    OrderService orderService;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Mock
+    EntityManager entityManager;
+
+    @Mock
+    TransactionStatus transactionStatus;
+
+    @Mock
+    Session session;
+
+    @Mock
+    Connection connection;
+
+    @Mock
+    Savepoint savepoint;
+
+    private GroupCommitOrderService groupCommitOrderService;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        if (groupCommitOrderService != null) {
+            groupCommitOrderService.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Verify concurrent placeOrder calls are committed in one transaction")
+    void placeOrder_concurrent_sharesCommit() throws Exception {
+        groupCommitOrderService = service(3);
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        when(orderService.placeOrder(anyString())).thenAnswer(invocation -> response(invocation.getArgument(0)));
+
+        List<Future<OrderResponse>> results = placeConcurrently("1", "2", "3");
+
+        assertThat(results.get(0).get().getId()).isEqualTo(1L);
+        assertThat(results.get(1).get().getId()).isEqualTo(2L);
+        assertThat(results.get(2).get().getId()).isEqualTo(3L);
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Verify a failing placeOrder is rolled back to its savepoint and the rest of the batch commits once")
+    void placeOrder_failure_isolated() throws Exception {
+        groupCommitOrderService = service(3);
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        when(orderService.placeOrder(anyString())).thenAnswer(invocation -> response(invocation.getArgument(0)));
+        when(orderService.placeOrder("2")).thenThrow(new ResourceNotFound("User doesn't have any items in cart"));
+
+        List<Future<OrderResponse>> results = placeConcurrently("1", "2", "3");
+
+        assertThat(results.get(0).get().getId()).isEqualTo(1L);
+        assertThat(results.get(2).get().getId()).isEqualTo(3L);
+        assertThatThrownBy(() -> results.get(1).get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ResourceNotFound.class);
+        verify(connection, times(1)).rollback(savepoint);
+        verify(connection, times(2)).releaseSavepoint(savepoint);
+        verify(entityManager).clear();
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager, never()).rollback(any());
+        verify(orderService, times(1)).placeOrder("1");
+        verify(orderService, times(1)).placeOrder("3");
+    }
+
+    @Test
+    @DisplayName("Verify the batch is placed individually when a failure leaves the transaction rollback-only")
+    void placeOrder_rollbackOnly_fallsBackToIndividual() throws Exception {
+        groupCommitOrderService = service(2);
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        when(transactionStatus.isRollbackOnly()).thenReturn(true);
+        when(orderService.placeOrder("1")).thenThrow(new ResourceNotFound("User doesn't have any items in cart"));
+        when(orderService.placeOrder("2")).thenAnswer(invocation -> response("2"));
+
+        List<Future<OrderResponse>> results = placeConcurrently("1", "2");
+
+        assertThatThrownBy(() -> results.get(0).get()).hasCauseInstanceOf(ResourceNotFound.class);
+        assertThat(results.get(1).get().getId()).isEqualTo(2L);
+        verify(transactionManager).rollback(transactionStatus);
+        verify(orderService, times(2)).placeOrder("1");
+    }
+
+    @Test
+    @DisplayName("Verify orders are placed individually when the batch commit fails")
+    void placeOrder_commitFailure_fallsBackToIndividual() throws Exception {
+        groupCommitOrderService = service(2);
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        doThrow(new TransactionSystemException("commit failed")).when(transactionManager).commit(any());
+        when(orderService.placeOrder(anyString())).thenAnswer(invocation -> response(invocation.getArgument(0)));
+
+        List<Future<OrderResponse>> results = placeConcurrently("1", "2");
+
+        assertThat(results.get(0).get().getId()).isEqualTo(1L);
+        assertThat(results.get(1).get().getId()).isEqualTo(2L);
+        verify(orderService, times(2)).placeOrder("1");
+        verify(orderService, times(2)).placeOrder("2");
+    }
+
+    @Test
+    @DisplayName("Verify callers of a batch that fails with an error are completed instead of waiting forever")
+    void placeOrder_batchError_completesCallers() {
+        groupCommitOrderService = service(1);
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        when(orderService.placeOrder("1")).thenThrow(new AssertionError("unexpected"));
+
+        Future<OrderResponse> result = placeConcurrently("1").get(0);
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Verify a request the busy flusher has not picked up is placed directly after the queue timeout")
+    void placeOrder_notPickedUp_placedDirectly() throws Exception {
+        groupCommitOrderService = service(1, Duration.ofMillis(200));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        when(orderService.placeOrder("1")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return response("1");
+        });
+        when(orderService.placeOrder("2")).thenAnswer(invocation -> response("2"));
+
+        Future<OrderResponse> first = placeConcurrently("1").get(0);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<OrderResponse> second = placeConcurrently("2").get(0);
+
+        assertThat(second.get(5, TimeUnit.SECONDS).getId()).isEqualTo(2L);
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+        verify(orderService, times(1)).placeOrder("2");
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(entityManager.unwrap(Session.class)).thenReturn(session);
+        lenient().when(session.doReturningWork(any())).thenAnswer(invocation ->
+                invocation.<ReturningWork<?>>getArgument(0).execute(connection));
+        lenient().doAnswer(invocation -> {
+            invocation.<Work>getArgument(0).execute(connection);
+            return null;
+        }).when(session).doWork(any());
+        lenient().when(connection.setSavepoint()).thenReturn(savepoint);
+    }
+
+    private GroupCommitOrderService service(int batchSize) {
+        return service(batchSize, Duration.ofSeconds(30));
+    }
+
+    private GroupCommitOrderService service(int batchSize, Duration queueTimeout) {
+        // A long wait makes the batch flush only once all requests of a test have arrived
+        return new GroupCommitOrderService(orderService, transactionManager, entityManager, 16, batchSize,
+                Duration.ofSeconds(5), queueTimeout);
+    }
+
+    private List<Future<OrderResponse>> placeConcurrently(String... userIds) {
+        return Arrays.stream(userIds)
+                .map(userId -> executor.submit(() -> groupCommitOrderService.placeOrder(userId)))
+                .toList();
+    }
+
+    private OrderResponse response(String userId) {
+        OrderResponse response = new OrderResponse();
+        response.setId(Long.valueOf(userId));
+        return response;
+    }
+}
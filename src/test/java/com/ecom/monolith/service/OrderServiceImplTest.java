@@ -3,6 +3,7 @@ package com.ecom.monolith.service;
 import com.ecom.monolith.Dto.OrderItemResponse;
 import com.ecom.monolith.Dto.OrderResponse;
 import com.ecom.monolith.Mapper.OrderMapper;
+import com.ecom.monolith.exception.InsufficientStock;
 import com.ecom.monolith.exception.ResourceNotFound;
 import com.ecom.monolith.model.*;
 import com.ecom.monolith.repositories.CartItemRepository;
@@ -43,6 +44,15 @@ public class OrderServiceImplTest {
     @Mock
     OrderMapper orderMapper;
 
+    @Mock
+    StockService stockService;
+
+    @Mock
+    StockReservationService stockReservationService;
+
+    @Mock
+    OrderArchiveService orderArchiveService;
+
     @InjectMocks
     OrderServiceImpl orderService;
 
@@ -133,7 +143,33 @@ public class OrderServiceImplTest {
         verify(cartItemRepository).findByUsersId(id);
         verify(cartItemRepository).deleteAll(anyList());
         verify(orderMapper).toDto(any(Order.class));
-        verifyNoMoreInteractions(usersRepository, cartItemRepository, orderRepository, orderMapper);
+        verify(stockService).decrementStock(product1, 5);
+        verify(stockService).decrementStock(product2, 5);
+        verify(stockReservationService).convertToSale(eq(id.toString()), anyList());
+        verifyNoMoreInteractions(usersRepository, cartItemRepository, orderRepository, orderMapper, stockService);
+    }
+
+    @Test
+    @DisplayName("Verify placeOrder fails without saving when stock is insufficient")
+    void placeOrder_UserExist_InsufficientStock() {
+        Users user1 = createUser(
+                id, "Jane", "Smith", "jane@example.com", "1234567890", UserRole.CUSTOMER,
+                createAddress(10L, "221B Baker St", "London", "Greater London", "UK", "NW1")
+        );
+        Product product1 = product(1L, "iphone 15", "iphone 15", BigDecimal.valueOf(1300), true, 1);
+        CartItem cartItem1 = createCartItem(id, user1, product1, 5, BigDecimal.valueOf(6500));
+
+        when(usersRepository.findById(id)).thenReturn(Optional.of(user1));
+        when(cartItemRepository.findByUsersId(id)).thenReturn(List.of(cartItem1));
+        doThrow(new InsufficientStock("Insufficient stock for product id: 1"))
+                .when(stockService).decrementStock(product1, 5);
+
+        assertThatThrownBy(() -> orderService.placeOrder(id.toString()))
+                .isInstanceOf(InsufficientStock.class)
+                .hasMessageContaining("Insufficient stock for product id: 1");
+
+        verifyNoInteractions(orderRepository, orderMapper, stockReservationService);
+        verify(cartItemRepository, never()).deleteAll(anyList());
     }
 
     @Test
@@ -189,6 +225,45 @@ public class OrderServiceImplTest {
         verifyNoMoreInteractions(usersRepository, cartItemRepository, orderRepository, orderMapper);
     }
 
+    @Test
+    @DisplayName("Verify getOrder returns a live order without reading the archive")
+    void getOrder_live() {
+        Order order = new Order();
+        order.setId(7L);
+        OrderResponse response = new OrderResponse();
+        response.setId(7L);
+        when(orderRepository.findByIdAndUsersId(7L, id)).thenReturn(Optional.of(order));
+        when(orderMapper.toDto(order)).thenReturn(response);
+
+        assertThat(orderService.getOrder(id.toString(), 7L)).isSameAs(response);
+
+        verifyNoInteractions(orderArchiveService);
+    }
+
+    @Test
+    @DisplayName("Verify getOrder falls back to the archive when the order is no longer live")
+    void getOrder_archived() {
+        OrderResponse response = new OrderResponse();
+        response.setId(7L);
+        when(orderRepository.findByIdAndUsersId(7L, id)).thenReturn(Optional.empty());
+        when(orderArchiveService.findArchivedOrder(id, 7L)).thenReturn(Optional.of(response));
+
+        assertThat(orderService.getOrder(id.toString(), 7L)).isSameAs(response);
+
+        verifyNoInteractions(orderMapper);
+    }
+
+    @Test
+    @DisplayName("Verify getOrder throws exception when the order is neither live nor archived")
+    void getOrder_notFound() {
+        when(orderRepository.findByIdAndUsersId(7L, id)).thenReturn(Optional.empty());
+        when(orderArchiveService.findArchivedOrder(id, 7L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> orderService.getOrder(id.toString(), 7L))
+                .isInstanceOf(ResourceNotFound.class)
+                .hasMessageContaining("Order does not exist with id: 7");
+    }
+
     private Users createUser(Long id, String firstName, String lastName, String email,
                              String phone, UserRole role, Address address) {
         Users user = new Users();
@@ -1,7 +1,9 @@
 package com.ecom.monolith.service;
 
 import com.ecom.monolith.Dto.ProductDto;
+import com.ecom.monolith.Dto.ProductLookupResponse;
 import com.ecom.monolith.Mapper.ProductMapper;
+import com.ecom.monolith.catalog.ProductChangedEvent;
 import com.ecom.monolith.exception.ResourceNotFound;
 import com.ecom.monolith.model.Product;
 import com.ecom.monolith.repositories.ProductRepository;
@@ -12,12 +14,15 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -33,6 +38,15 @@ public class ProductServiceImplTest {
     @Mock
     ProductMapper productMapper;
 
+    @Mock
+    StockService stockService;
+
+    @Mock
+    StockReservationService stockReservationService;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     ProductServiceImpl productService;
 
@@ -55,6 +69,21 @@ public class ProductServiceImplTest {
         verifyNoMoreInteractions(productRepository, productMapper);
     }
 
+    @Test
+    @DisplayName("Verify findById reports the sum of the shards as stock for a sharded product")
+    void findById_sharded_reportsShardSum() {
+        Product entity = product(id, "iphone", "latest iphone with AI", BigDecimal.valueOf(1500), true, 10);
+        entity.setStockShards(4);
+        ProductDto dto = productDto(id, "iphone", "latest iphone with AI", BigDecimal.valueOf(1500), 10);
+        when(productRepository.findById(id)).thenReturn(Optional.of(entity));
+        when(productMapper.toDto(entity)).thenReturn(dto);
+        when(stockService.availableStock(entity)).thenReturn(7);
+
+        ProductDto returnedDto = productService.findById(id);
+
+        assertThat(returnedDto.getStockQuantity()).isEqualTo(7);
+    }
+
     @Test
     @DisplayName("Verify findById throws exception when product is not found")
     void findById_returnsException() {
@@ -127,6 +156,26 @@ public class ProductServiceImplTest {
         verifyNoMoreInteractions(productRepository, productMapper);
     }
 
+    @Test
+    @DisplayName("Verify findByIds drops duplicate ids, keeps request order and reports missing ids")
+    void findByIds_orderAndMissing() {
+        Product product1 = product(1L, "iphone 15", "iphone 15", BigDecimal.valueOf(1300), true, 10);
+        Product product3 = product(3L, "iphone 17", "iphone 17", BigDecimal.valueOf(2000), true, 10);
+        ProductDto dto1 = productDto(1L, "iphone 15", "iphone 15", BigDecimal.valueOf(1300), 10);
+        ProductDto dto3 = productDto(3L, "iphone 17", "iphone 17", BigDecimal.valueOf(2000), 10);
+
+        when(productRepository.findAllInRequestOrder(List.of(3L, 2L, 1L))).thenReturn(Arrays.asList(product3, null, product1));
+        when(productMapper.toDto(product1)).thenReturn(dto1);
+        when(productMapper.toDto(product3)).thenReturn(dto3);
+
+        ProductLookupResponse response = productService.findByIds(List.of(3L, 2L, 3L, 1L));
+
+        assertThat(response.getProducts()).containsExactly(dto3, dto1);
+        assertThat(response.getMissing()).containsExactly(2L);
+        verify(productRepository).findAllInRequestOrder(List.of(3L, 2L, 1L));
+        verifyNoMoreInteractions(productRepository);
+    }
+
     @Test
     @DisplayName("Verify updateProduct merges fields and saves updated product")
     void updateProduct_mergesFields_andSaves() {
@@ -154,6 +203,8 @@ public class ProductServiceImplTest {
         assertThat(saved.getDescription()).isEqualTo("latest iphone with AI");
 
         verify(productMapper).toDto(saved);
+        verify(stockReservationService).refresh(saved);
+        verify(eventPublisher).publishEvent(ProductChangedEvent.of(saved));
         verifyNoMoreInteractions(productRepository, productMapper);
     }
 
@@ -193,6 +244,27 @@ public class ProductServiceImplTest {
         verifyNoMoreInteractions(productRepository, productMapper);
     }
 
+    @Test
+    @DisplayName("Verify getAllProducts reads the stock of all sharded products in one lookup")
+    void getAllProducts_sharded_singleStockLookup() {
+        Product product1 = product(1L, "iphone 15", "iphone 15", BigDecimal.valueOf(1300), true, 10);
+        Product product2 = product(2L, "iphone 16", "iphone 16", BigDecimal.valueOf(1500), true, 10);
+        Product product3 = product(3L, "iphone 17", "iphone 17", BigDecimal.valueOf(1700), true, 10);
+        product1.setStockShards(4);
+        product3.setStockShards(4);
+        when(productRepository.findByActiveTrue()).thenReturn(List.of(product1, product2, product3));
+        when(productMapper.toDto(product1)).thenReturn(productDto(1L, "iphone 15", "iphone 15", BigDecimal.valueOf(1300), 10));
+        when(productMapper.toDto(product2)).thenReturn(productDto(2L, "iphone 16", "iphone 16", BigDecimal.valueOf(1500), 10));
+        when(productMapper.toDto(product3)).thenReturn(productDto(3L, "iphone 17", "iphone 17", BigDecimal.valueOf(1700), 10));
+        when(stockService.shardTotals(List.of(1L, 3L))).thenReturn(Map.of(1L, 7));
+
+        List<ProductDto> result = productService.getAllProducts();
+
+        assertThat(result).extracting(ProductDto::getStockQuantity).containsExactly(7, 10, 0);
+        verify(stockService).shardTotals(List.of(1L, 3L));
+        verifyNoMoreInteractions(stockService);
+    }
+
     @Test
     @DisplayName("Verify deleteProduct deactivates product successfully")
     void deleteProduct_success() {
@@ -227,6 +299,51 @@ public class ProductServiceImplTest {
         verifyNoMoreInteractions(productRepository);
     }
 
+    @Test
+    @DisplayName("Verify shardStock splits product stock and returns mapped ProductDto")
+    void shardStock_success() {
+        Product entity = product(id, "iphone", "iphone", BigDecimal.valueOf(1500), true, 10);
+        ProductDto dto = productDto(id, "iphone", "iphone", BigDecimal.valueOf(1500), 10);
+        when(productRepository.findById(id)).thenReturn(Optional.of(entity));
+        when(productMapper.toDto(entity)).thenReturn(dto);
+
+        ProductDto returnedDto = productService.shardStock(id, 8);
+
+        assertThat(returnedDto.getId()).isEqualTo(id);
+        verify(productRepository).findById(id);
+        verify(stockService).shardStock(entity, 8);
+        verify(productMapper).toDto(entity);
+        verifyNoMoreInteractions(productRepository, productMapper, stockService);
+    }
+
+    @Test
+    @DisplayName("Verify updateProduct redistributes stock across shards for sharded products")
+    void updateProduct_shardedProduct_redistributesStock() {
+        Product entity = product(id, "iphone", "iphone", BigDecimal.valueOf(1500), true, 10);
+        entity.setStockShards(4);
+        ProductDto updatedDto = productDto(id, "iphone", "iphone", BigDecimal.valueOf(1500), 40);
+        when(productRepository.findById(id)).thenReturn(Optional.of(entity));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0, Product.class));
+        when(productMapper.toDto(any(Product.class))).thenReturn(updatedDto);
+
+        productService.updateProduct(id, updatedDto);
+
+        assertThat(entity.getStockQuantity()).isEqualTo(40);
+        verify(stockService).redistributeStock(entity);
+    }
+
+    @Test
+    @DisplayName("Verify shardStock throws exception when product is not found")
+    void shardStock_notFound() {
+        when(productRepository.findById(id)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> productService.shardStock(id, 8))
+                .isInstanceOf(ResourceNotFound.class)
+                .hasMessageContaining("Resource not found with id: " + id);
+
+        verifyNoInteractions(stockService, productMapper);
+    }
+
     private Product product(Long id, String name, String description, BigDecimal price, boolean active, Integer stock) {
         Product product = new Product();
         product.setName(name);
@@ -0,0 +1,277 @@
+package com.ecom.monolith.service;
+
+import com.ecom.monolith.model.CartItem;
+import com.ecom.monolith.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the StockReservationServiceImpl class.
+ * This class verifies cart holds, expiry through the timer wheel and conversion of holds into sales.
+ */
+@ExtendWith(MockitoExtension.class)
+public class StockReservationServiceImplTest {
+
+    @Mock
+    StockService stockService;
+
+    private MutableClock clock;
+
+    private StockReservationServiceImpl reservationService;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        reservationService = new StockReservationServiceImpl(stockService, clock,
+                Duration.ofMinutes(15), Duration.ofSeconds(1), 64, 2);
+        product = product(1L, 10);
+        lenient().when(stockService.availableStock(product)).thenReturn(10);
+    }
+
+    @Test
+    @DisplayName("Verify reserve holds stock in memory and rejects requests beyond what is free")
+    void reserve_holdsStock() {
+        assertThat(reservationService.reserve("1", product, 6)).isTrue();
+        assertThat(reservationService.reserve("2", product, 5)).isFalse();
+        assertThat(reservationService.reserve("2", product, 4)).isTrue();
+
+        assertThat(reservationService.available(1L)).isZero();
+        verify(stockService, times(1)).availableStock(product);
+    }
+
+    @Test
+    @DisplayName("Verify release and releaseAll give held stock back")
+    void release_givesStockBack() {
+        reservationService.reserve("1", product, 6);
+
+        reservationService.release("1", 1L, 2);
+        assertThat(reservationService.available(1L)).isEqualTo(6);
+
+        reservationService.releaseAll("1", 1L);
+        assertThat(reservationService.available(1L)).isEqualTo(10);
+
+        reservationService.releaseAll("1", 1L);
+        assertThat(reservationService.available(1L)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Verify a hold taken in a transaction that rolls back is released")
+    void reserve_rolledBack_releasesHold() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            reservationService.reserve("1", product, 6);
+            assertThat(reservationService.available(1L)).isEqualTo(4);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(reservationService.available(1L)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Verify sweepExpired releases holds once their ttl has passed")
+    void sweepExpired_releasesExpiredHolds() {
+        reservationService.reserve("1", product, 2);
+        reservationService.reserve("2", product, 2);
+        reservationService.reserve("3", product, 2);
+
+        clock.advance(Duration.ofMinutes(14));
+        assertThat(reservationService.sweepExpired()).isZero();
+        assertThat(reservationService.available(1L)).isEqualTo(4);
+
+        clock.advance(Duration.ofMinutes(2));
+        assertThat(reservationService.sweepExpired()).isEqualTo(3);
+        assertThat(reservationService.available(1L)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Verify a hold topped up later keeps the later expiry")
+    void sweepExpired_keepsToppedUpHold() {
+        reservationService.reserve("1", product, 2);
+        clock.advance(Duration.ofMinutes(10));
+        reservationService.reserve("1", product, 3);
+
+        clock.advance(Duration.ofMinutes(6));
+        assertThat(reservationService.sweepExpired()).isZero();
+        assertThat(reservationService.available(1L)).isEqualTo(5);
+
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(reservationService.sweepExpired()).isEqualTo(1);
+        assertThat(reservationService.available(1L)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Verify convertToSale drops holds without giving stock back")
+    void convertToSale_consumesHold() {
+        reservationService.reserve("1", product, 4);
+
+        reservationService.convertToSale("1", List.of(cartItem(product, 4)));
+        clock.advance(Duration.ofHours(1));
+        reservationService.sweepExpired();
+
+        assertThat(reservationService.available(1L)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Verify convertToSale takes expired quantities out of free stock")
+    void convertToSale_afterExpiry() {
+        reservationService.reserve("1", product, 4);
+        clock.advance(Duration.ofHours(1));
+        reservationService.sweepExpired();
+
+        reservationService.convertToSale("1", List.of(cartItem(product, 4)));
+
+        assertThat(reservationService.available(1L)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Verify refresh reseeds free stock minus outstanding holds")
+    void refresh_reseedsLedger() {
+        reservationService.reserve("1", product, 4);
+        product.setStockQuantity(50);
+        when(stockService.availableStock(product)).thenReturn(50);
+
+        reservationService.refresh(product);
+
+        assertThat(reservationService.available(1L)).isEqualTo(46);
+    }
+
+    @Test
+    @DisplayName("Verify refresh after a sale the database already reflects leaves free stock unchanged")
+    void refresh_afterSale_noDelta() {
+        reservationService.reserve("1", product, 4);
+        reservationService.reserve("2", product, 3);
+        reservationService.convertToSale("1", List.of(cartItem(product, 4)));
+        when(stockService.availableStock(product)).thenReturn(6);
+
+        reservationService.refresh(product);
+
+        assertThat(reservationService.available(1L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Verify reservations made while the ledger is refreshed are not lost")
+    void refresh_concurrentReserves() throws Exception {
+        Product hot = product(2L, 100);
+        when(stockService.availableStock(hot)).thenReturn(100);
+        reservationService.reserve("seed", hot, 1);
+        reservationService.releaseAll("seed", 2L);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = IntStream.range(0, 200)
+                    .<Future<?>>mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        if (i % 2 == 0) {
+                            reservationService.reserve(String.valueOf(i), hot, 1);
+                        } else {
+                            reservationService.refresh(hot);
+                        }
+                        return null;
+                    }))
+                    .toList();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(reservationService.available(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Verify concurrent reservations never hold more than the available stock")
+    void reserve_concurrent() throws Exception {
+        Product hot = product(2L, 100);
+        when(stockService.availableStock(hot)).thenReturn(100);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = IntStream.range(0, 400)
+                    .<Future<?>>mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        if (reservationService.reserve(String.valueOf(i), hot, 1)) {
+                            granted.incrementAndGet();
+                        }
+                        return null;
+                    }))
+                    .toList();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(granted.get()).isEqualTo(100);
+        assertThat(reservationService.available(2L)).isZero();
+    }
+
+    private Product product(Long productId, int stock) {
+        Product product = new Product();
+        product.setId(productId);
+        product.setName("iphone 15");
+        product.setPrice(BigDecimal.valueOf(1300));
+        product.setStockQuantity(stock);
+        product.setCategory("Electronic");
+        return product;
+    }
+
+    private CartItem cartItem(Product product, int quantity) {
+        CartItem cartItem = new CartItem();
+        cartItem.setProduct(product);
+        cartItem.setQuantity(quantity);
+        return cartItem;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.ecom.monolith.service;
+
+import com.ecom.monolith.catalog.ProductChangedEvent;
+import com.ecom.monolith.exception.InsufficientStock;
+import com.ecom.monolith.model.Product;
+import com.ecom.monolith.model.ProductStockShard;
+import com.ecom.monolith.repositories.ProductStockShardRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the StockServiceImpl class.
+ * This class verifies single-row and sharded stock decrements, rebalancing and shard configuration.
+ */
+@ExtendWith(MockitoExtension.class)
+public class StockServiceImplTest {
+
+    @Mock
+    ProductStockShardRepository shardRepository;
+
+    @Mock
+    EntityManager entityManager;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    StockServiceImpl stockService;
+
+    private static final Long id = 1L;
+
+    @Test
+    @DisplayName("Verify decrementStock locks and decrements the product row for unsharded products")
+    void decrementStock_unsharded_success() {
+        Product product = product(10, null);
+        when(entityManager.contains(product)).thenReturn(true);
+
+        stockService.decrementStock(product, 4);
+
+        assertThat(product.getStockQuantity()).isEqualTo(6);
+        verify(entityManager).refresh(product, LockModeType.PESSIMISTIC_WRITE);
+        verify(eventPublisher).publishEvent(new ProductChangedEvent(id, product.getPrice(), 6, true));
+        verifyNoInteractions(shardRepository);
+    }
+
+    @Test
+    @DisplayName("Verify decrementStock throws exception when the product row has insufficient stock")
+    void decrementStock_unsharded_insufficient() {
+        Product product = product(3, null);
+        when(entityManager.contains(product)).thenReturn(true);
+
+        assertThatThrownBy(() -> stockService.decrementStock(product, 4))
+                .isInstanceOf(InsufficientStock.class)
+                .hasMessageContaining("Insufficient stock for product id: " + id);
+
+        assertThat(product.getStockQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Verify decrementStock decrements a single shard without locking the others")
+    void decrementStock_sharded_success() {
+        Product product = product(100, 4);
+        when(shardRepository.decrement(eq(id), anyInt(), eq(2))).thenReturn(1);
+
+        stockService.decrementStock(product, 2);
+
+        ArgumentCaptor<Integer> shardNo = ArgumentCaptor.forClass(Integer.class);
+        verify(shardRepository).decrement(eq(id), shardNo.capture(), eq(2));
+        assertThat(shardNo.getValue()).isBetween(0, 3);
+        verify(shardRepository, never()).findAllForUpdate(anyLong());
+        verify(shardRepository, never()).sumQuantity(anyLong());
+        verify(eventPublisher).publishEvent(new ProductChangedEvent(id, product.getPrice(), null, true));
+        assertThat(product.getStockQuantity()).isEqualTo(100);
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    @DisplayName("Verify decrementStock rebalances shards when the chosen shard is exhausted")
+    void decrementStock_sharded_rebalances() {
+        Product product = product(100, 3);
+        List<ProductStockShard> shards = List.of(shard(product, 0, 0), shard(product, 1, 5), shard(product, 2, 2));
+        when(shardRepository.decrement(eq(id), anyInt(), eq(3))).thenReturn(0);
+        when(shardRepository.findAllForUpdate(id)).thenReturn(shards);
+
+        stockService.decrementStock(product, 3);
+
+        assertThat(shards).extracting(ProductStockShard::getQuantity).containsExactly(2, 1, 1);
+        assertThat(product.getStockQuantity()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Verify decrementStock throws exception when all shards together have insufficient stock")
+    void decrementStock_sharded_insufficient() {
+        Product product = product(100, 2);
+        List<ProductStockShard> shards = List.of(shard(product, 0, 1), shard(product, 1, 1));
+        when(shardRepository.decrement(eq(id), anyInt(), eq(3))).thenReturn(0);
+        when(shardRepository.findAllForUpdate(id)).thenReturn(shards);
+
+        assertThatThrownBy(() -> stockService.decrementStock(product, 3))
+                .isInstanceOf(InsufficientStock.class);
+
+        assertThat(shards).extracting(ProductStockShard::getQuantity).containsExactly(1, 1);
+    }
+
+    @Test
+    @DisplayName("Verify shardStock splits the product stock evenly across shard rows")
+    @SuppressWarnings("unchecked")
+    void shardStock_splitsStock() {
+        Product product = product(10, null);
+
+        stockService.shardStock(product, 4);
+
+        ArgumentCaptor<List<ProductStockShard>> captor = ArgumentCaptor.forClass(List.class);
+        verify(shardRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(ProductStockShard::getShardNo).containsExactly(0, 1, 2, 3);
+        assertThat(captor.getValue()).extracting(ProductStockShard::getQuantity).containsExactly(3, 3, 2, 2);
+        assertThat(product.getStockShards()).isEqualTo(4);
+        assertThat(product.getStockQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Verify shardStock with one shard folds shard rows back into the product row")
+    void shardStock_disablesSharding() {
+        Product product = product(0, 2);
+        when(shardRepository.findAllForUpdate(id)).thenReturn(List.of(shard(product, 0, 4), shard(product, 1, 3)));
+
+        stockService.shardStock(product, 1);
+
+        verify(shardRepository).deleteByProductId(id);
+        verify(shardRepository, never()).saveAll(anyList());
+        assertThat(product.getStockShards()).isNull();
+        assertThat(product.getStockQuantity()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Verify availableStock sums shard rows for sharded products")
+    void availableStock_sharded() {
+        Product product = product(0, 2);
+        when(shardRepository.sumQuantity(id)).thenReturn(42L);
+
+        assertThat(stockService.availableStock(product)).isEqualTo(42);
+        assertThat(stockService.availableStock(product(7, null))).isEqualTo(7);
+    }
+
+    private Product product(int stock, Integer shards) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("iphone 15");
+        product.setPrice(BigDecimal.valueOf(1300));
+        product.setStockQuantity(stock);
+        product.setStockShards(shards);
+        product.setCategory("Electronic");
+        return product;
+    }
+
+    private ProductStockShard shard(Product product, int shardNo, int quantity) {
+        return new ProductStockShard(product, shardNo, quantity);
+    }
+}
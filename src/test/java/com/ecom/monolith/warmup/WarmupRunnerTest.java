@@ -0,0 +1,95 @@
+package com.ecom.monolith.warmup;
+
+import com.ecom.monolith.Mapper.OrderMapperImpl;
+import com.ecom.monolith.Mapper.ProductMapperImpl;
+import com.ecom.monolith.model.Product;
+import com.ecom.monolith.repositories.ProductRepository;
+import com.ecom.monolith.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the WarmupRunner class.
+ * This class verifies the preload steps, the warm-up metrics and that the budget stops the remaining steps.
+ */
+@ExtendWith(MockitoExtension.class)
+public class WarmupRunnerTest {
+
+    @Mock
+    ProductRepository productRepository;
+
+    @Mock
+    ProductService productService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Verify warm-up preloads top sellers and the catalog and records step timings")
+    void run_preloadsAndRecordsMetrics() {
+        Product product = product(7L);
+        when(productRepository.findTopSellingIds(PageRequest.of(0, 50))).thenReturn(List.of(7L));
+        when(productRepository.findAllById(List.of(7L))).thenReturn(List.of(product));
+
+        runner(Duration.ofSeconds(30), 10).run(new DefaultApplicationArguments());
+
+        verify(productService).getAllProducts();
+        assertThat(meterRegistry.get("app.warmup.products").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("app.warmup.completed").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("app.warmup.step").tag("step", "jit").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("app.warmup.step").tag("step", "top-sellers").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Verify a failing step does not stop the remaining steps")
+    void run_failingStep_continues() {
+        when(productRepository.findTopSellingIds(any())).thenThrow(new IllegalStateException("db down"));
+
+        runner(Duration.ofSeconds(30), 10).run(new DefaultApplicationArguments());
+
+        verify(productService).getAllProducts();
+        assertThat(meterRegistry.get("app.warmup.products").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Verify no step runs once the budget is used up")
+    void run_zeroBudget_skipsSteps() {
+        runner(Duration.ZERO, 10).run(new DefaultApplicationArguments());
+
+        verifyNoInteractions(productRepository, productService);
+        assertThat(meterRegistry.get("app.warmup.completed").gauge().value()).isZero();
+    }
+
+    private WarmupRunner runner(Duration budget, int jitIterations) {
+        return new WarmupRunner(productRepository, productService, new ProductMapperImpl(), new OrderMapperImpl(),
+                new ObjectMapper(), TransactionOperations.withoutTransaction(), meterRegistry, budget, 50, jitIterations);
+    }
+
+    private static Product product(Long id) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("iphone");
+        product.setPrice(BigDecimal.valueOf(1500));
+        product.setStockQuantity(10);
+        product.setCategory("Electronic");
+        product.setActive(true);
+        return product;
+    }
+}